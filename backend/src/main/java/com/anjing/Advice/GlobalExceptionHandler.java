@@ -35,21 +35,29 @@ public class GlobalExceptionHandler
 {
 
     /**
-     * 处理业务异常
+     * 处理业务异常（预期内的拒绝只输出一行日志，包装了底层异常时打印完整信息）
      */
     @ExceptionHandler(BizException.class)
     public APIResponse<Object> handleBizException(BizException e, HttpServletRequest request)
     {
-        ExceptionUtils.printException(e, request);
+        if (ExceptionUtils.isCompact(e)) {
+            ExceptionUtils.printCompact(e, request);
+        } else {
+            ExceptionUtils.printException(e, request);
+        }
         return APIResponse.error(e.getErrorCode().getCode(), e.getErrorCode().getMessage());
     }
 
     /**
-     * 处理系统异常
+     * 处理系统异常（不带cause的拒绝只输出一行日志，包装了底层异常时打印完整信息）
      */
     @ExceptionHandler(SystemException.class)
     public APIResponse<Object> handleSystemException(SystemException e, HttpServletRequest request) {
-        ExceptionUtils.printException(e, request);
+        if (ExceptionUtils.isCompact(e)) {
+            ExceptionUtils.printCompact(e, request);
+        } else {
+            ExceptionUtils.printException(e, request);
+        }
         return APIResponse.error(e.getErrorCode().getCode(), e.getErrorCode().getMessage());
     }
 
@@ -47,6 +47,8 @@ import java.lang.annotation.*;
  *   <li><b>enableValidation</b> - 是否校验参数，默认true</li>
  *   <li><b>enableLogging</b> - 是否记录日志，默认true</li>
  *   <li><b>validationGroups</b> - 校验分组，支持不同场景不同规则</li>
+ *   <li><b>timeoutMillis</b> - 方法超时时间，设置请求级截止时间</li>
+ *   <li><b>logSampleRate / maxLogPayloadChars / logArgs / logResult</b> - 覆盖全局日志配置（app.facade.logging）</li>
  * </ul>
  * 
  * <h3>💡 完整示例：</h3>
@@ -113,4 +115,46 @@ public @interface Facade {
      * @return 场景描述
      */
     String scene() default "";
+    
+    /**
+     * 方法超时时间（毫秒）
+     * 
+     * <p>大于0时为本次调用设置截止时间（与外层已有的截止时间取较早者），
+     * 方法内的重试等待、远程调用会收紧到剩余时间以内；入口处已超时则直接失败</p>
+     * 
+     * @return 默认-1，沿用外层截止时间
+     */
+    long timeoutMillis() default -1;
+    
+    /**
+     * 开始/成功日志的采样率（0~1）
+     * 
+     * <p>高QPS方法可以只记录一部分调用，失败日志不受影响</p>
+     * 
+     * @return 默认-1，使用app.facade.logging.sample-rate
+     */
+    double logSampleRate() default -1;
+    
+    /**
+     * 日志中参数、结果的最大字符数
+     * 
+     * @return 默认-1，使用app.facade.logging.max-payload-chars
+     */
+    int maxLogPayloadChars() default -1;
+    
+    /**
+     * 开始日志是否输出参数
+     * 
+     * <p>参数很大或包含敏感信息时设为false，失败日志仍会输出参数</p>
+     * 
+     * @return 默认true
+     */
+    boolean logArgs() default true;
+    
+    /**
+     * 成功日志是否输出返回结果
+     * 
+     * @return 默认true
+     */
+    boolean logResult() default true;
 }
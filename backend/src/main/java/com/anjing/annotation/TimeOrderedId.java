@@ -0,0 +1,60 @@
+package com.anjing.annotation;
+
+import com.anjing.config.jpa.TimeOrderedIdentifierGenerator;
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.*;
+
+/**
+ * 按时间有序的主键注解（UUIDv7 / ULID）
+ *
+ * 标注在JPA实体的{@code @Id}字段上，插入前由{@link TimeOrderedIdentifierGenerator}生成主键；
+ * 主键按时间递增，插入总是追加在B+树索引末尾，避免随机UUID导致的页分裂。
+ *
+ * 支持的字段类型：
+ * - {@link java.util.UUID}：MySQL下映射为{@code BINARY(16)}，推荐
+ * - {@code String}：UUIDv7为36位字符串，ULID为26位字符串
+ * - {@code byte[]}：16字节大端二进制
+ *
+ * 使用示例：
+ * ```java
+ * @Id
+ * @TimeOrderedId
+ * private UUID id;
+ *
+ * @Id
+ * @TimeOrderedId(format = TimeOrderedId.Format.ULID)
+ * @Column(length = 26)
+ * private String id;
+ * ```
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@IdGeneratorType(TimeOrderedIdentifierGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface TimeOrderedId {
+
+    /**
+     * ID格式
+     *
+     * @return ID格式
+     */
+    Format format() default Format.UUID_V7;
+
+    /**
+     * ID格式
+     */
+    enum Format {
+        /**
+         * UUIDv7（RFC 9562）
+         */
+        UUID_V7,
+        /**
+         * ULID
+         */
+        ULID
+    }
+}
@@ -4,6 +4,8 @@ import com.anjing.annotation.DistributeLock;
 import com.anjing.model.exception.SystemException;
 import com.anjing.model.errorcode.LockErrorCode;
 import com.anjing.model.constants.DistributeLockConstant;
+import com.anjing.util.deadline.Deadline;
+import com.anjing.util.deadline.DeadlineContext;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -33,7 +35,7 @@ import java.util.concurrent.TimeUnit;
  * <ul>
  *   <li>提供声明式分布式锁，简化业务代码</li>
  *   <li>支持灵活的key生成策略（固定key + SpEL表达式）</li>
- *   <li>提供完善的时间控制（过期时间 + 等待时间）</li>
+ *   <li>提供完善的时间控制（过期时间 + 等待时间），等待时间不超过请求的剩余截止时间</li>
  *   <li>确保异常安全的锁释放机制</li>
  * </ul>
  *
@@ -202,9 +204,13 @@ public class DistributeLockAspect
         long waitTime = distributeLock.waitTime();
         RLock rLock = redissonClient.getLock(lockKey);
         boolean lockResult = false;
+
+        // 请求已超过截止时间则不再排队等锁；有截止时间时等锁最多等到截止时间
+        DeadlineContext.checkNotExpired("lock " + lockKey);
+        Deadline deadline = DeadlineContext.current();
         
         try {
-            if (waitTime == DistributeLockConstant.DEFAULT_WAIT_TIME) {
+            if (waitTime == DistributeLockConstant.DEFAULT_WAIT_TIME && deadline == null) {
                 if (expireTime == DistributeLockConstant.DEFAULT_EXPIRE_TIME) {
                     LOG.info(String.format("lock for key : %s", lockKey));
                     rLock.lock();
@@ -214,12 +220,15 @@ public class DistributeLockAspect
                 }
                 lockResult = true;
             } else {
+                long waitMillis = waitTime == DistributeLockConstant.DEFAULT_WAIT_TIME
+                        ? deadline.remainingMillis()
+                        : DeadlineContext.remainingMillis(TimeUnit.SECONDS.toMillis(waitTime));
                 if (expireTime == DistributeLockConstant.DEFAULT_EXPIRE_TIME) {
-                    LOG.info(String.format("try lock for key : %s , wait : %s", lockKey, waitTime));
-                    lockResult = rLock.tryLock(waitTime, TimeUnit.SECONDS);
+                    LOG.info(String.format("try lock for key : %s , wait : %sms", lockKey, waitMillis));
+                    lockResult = rLock.tryLock(waitMillis, TimeUnit.MILLISECONDS);
                 } else {
-                    LOG.info(String.format("try lock for key : %s , expire : %s , wait : %s", lockKey, expireTime, waitTime));
-                    lockResult = rLock.tryLock(waitTime, expireTime, TimeUnit.SECONDS);
+                    LOG.info(String.format("try lock for key : %s , expire : %s , wait : %sms", lockKey, expireTime, waitMillis));
+                    lockResult = rLock.tryLock(waitMillis, TimeUnit.SECONDS.toMillis(expireTime), TimeUnit.MILLISECONDS);
                 }
             }
         } catch (InterruptedException e) {
@@ -233,7 +242,7 @@ public class DistributeLockAspect
 
         if (!lockResult) {
             LOG.warn(String.format("lock failed for key : %s , expire : %s", lockKey, expireTime));
-            throw new SystemException(LockErrorCode.LOCK_ACQUIRE_FAILED);
+            throw SystemException.of(LockErrorCode.LOCK_ACQUIRE_FAILED);
         }
 
         try {
@@ -1,24 +1,38 @@
 package com.anjing.aspect;
 
 import com.anjing.annotation.Facade;
+import com.anjing.config.properties.FacadeLoggingProperties;
 import com.anjing.model.exception.BizException;
 import com.anjing.model.exception.SystemException;
 import com.anjing.model.errorcode.CommonErrorCode;
 import com.anjing.model.response.APIResponse;
 import com.anjing.util.BeanValidator;
 import com.anjing.util.JsonUtils;
+import com.anjing.util.deadline.Deadline;
+import com.anjing.util.deadline.DeadlineContext;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.MDC;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StopWatch;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 🎯 Facade统一校验切面
@@ -27,7 +41,7 @@ import java.lang.reflect.Type;
  * 
  * <h3>🚀 核心功能：</h3>
  * <ul>
- *   <li>🔍 <b>自动参数校验</b> - 遍历所有方法参数，执行JSR-303校验</li>
+ *   <li>🔍 <b>自动参数校验</b> - 对声明了约束的参数执行JSR-303校验，无约束的类型直接跳过</li>
  *   <li>📋 <b>详细日志记录</b> - 记录方法调用、参数、执行时间、异常信息</li>
  *   <li>🛡️ <b>异常统一处理</b> - 校验失败自动转换为统一的响应格式</li>
  *   <li>⏱️ <b>性能监控</b> - 自动记录方法执行时间</li>
@@ -54,15 +68,29 @@ import java.lang.reflect.Type;
  * 
  * <h3>🎯 处理流程：</h3>
  * <pre>
- * 1. 📋 解析@Facade注解配置
+ * 1. 📋 解析@Facade注解配置，设置截止时间（如果配置了timeoutMillis），已超时直接失败
  * 2. 🔍 执行参数校验（如果启用）
- * 3. 📝 记录方法调用日志（如果启用）
+ * 3. 📝 记录方法调用日志（如果启用且被采样）
  * 4. ⏱️ 开始性能计时
  * 5. 🚀 执行目标方法
  * 6. 📊 记录执行结果和耗时
  * 7. 🛡️ 统一异常处理和响应格式转换
  * </pre>
  * 
+ * <h3>📋 方法描述符：</h3>
+ * <p>注解、方法名、需要校验的参数位置、返回类型分类按{@link Method}缓存，
+ * 首次调用时解析一次，之后每次调用只是几次字段读取</p>
+ * 
+ * <h3>📝 日志：</h3>
+ * <ul>
+ *   <li>开始/成功日志按采样率输出，失败日志始终同步输出</li>
+ *   <li>参数、结果边序列化边截断（{@code app.facade.logging.max-payload-chars}），参数只序列化一次，失败日志复用</li>
+ *   <li>开启{@code app.facade.logging.async}后，参数、结果仍在业务线程中序列化（调用当时的快照），
+ *       只有日志输出在后台线程完成，队列满时丢弃日志</li>
+ *   <li>方法级覆盖：{@link Facade#logSampleRate()}、{@link Facade#maxLogPayloadChars()}、
+ *       {@link Facade#logArgs()}、{@link Facade#logResult()}</li>
+ * </ul>
+ * 
  * <h3>💡 最佳实践：</h3>
  * <ul>
  *   <li>🎯 <b>合理使用</b> - 仅在RPC服务、Service层等需要统一处理的场景使用</li>
@@ -83,6 +111,28 @@ import java.lang.reflect.Type;
 @Slf4j
 public class FacadeAspect {
 
+    /**
+     * 每个@Facade方法的描述符，首次调用时解析一次
+     */
+    private final Map<Method, FacadeMethodDescriptor> descriptors = new ConcurrentHashMap<>();
+
+    private final FacadeLoggingProperties loggingProperties;
+
+    /**
+     * 异步日志线程池，未开启异步日志时为null
+     */
+    private final ThreadPoolExecutor logExecutor;
+
+    /**
+     * 异步日志队列满时丢弃的日志数
+     */
+    private final LongAdder droppedLogs = new LongAdder();
+
+    public FacadeAspect(FacadeLoggingProperties loggingProperties) {
+        this.loggingProperties = loggingProperties;
+        this.logExecutor = loggingProperties.isAsync() ? createLogExecutor(loggingProperties.getAsyncQueueSize()) : null;
+    }
+
     /**
      * 🎯 Facade方法统一处理
      * 
@@ -94,89 +144,108 @@ public class FacadeAspect {
      */
     @Around("@annotation(com.anjing.annotation.Facade)")
     public Object process(ProceedingJoinPoint pjp) throws Exception {
-        StopWatch stopWatch = new StopWatch();
-        stopWatch.start();
+        long startNanos = System.nanoTime();
 
         Method method = ((MethodSignature) pjp.getSignature()).getMethod();
-        Facade facade = method.getAnnotation(Facade.class);
+        FacadeMethodDescriptor descriptor = descriptors.computeIfAbsent(method,
+                m -> new FacadeMethodDescriptor(m, loggingProperties));
+        Facade facade = descriptor.facade;
         Object[] args = pjp.getArgs();
         
-        String methodName = method.getDeclaringClass().getSimpleName() + "." + method.getName();
-        String scene = facade.scene().isEmpty() ? methodName : facade.scene();
+        String methodName = descriptor.methodName;
+
+        // 设置截止时间（与外层截止时间取较早者）
+        Deadline outerDeadline = DeadlineContext.current();
+        boolean scopedDeadline = facade.timeoutMillis() > 0;
+        if (scopedDeadline) {
+            DeadlineContext.set(Deadline.after(facade.timeoutMillis(), TimeUnit.MILLISECONDS).min(outerDeadline));
+        }
+
+        // 本次调用是否输出开始/成功日志；参数只序列化一次，失败日志复用
+        boolean sampled = descriptor.isLogSampled();
+        String argsJson = null;
 
         try {
+            // 0. 调用方已放弃的请求不再执行
+            DeadlineContext.checkNotExpired(methodName);
+
             // 1. 记录方法调用开始日志
-            if (facade.enableLogging()) {
-                logMethodStart(methodName, scene, args);
+            if (sampled) {
+                argsJson = logMethodStart(descriptor, args);
             }
 
             // 2. 执行参数校验
             if (facade.enableValidation()) {
-                validateParameters(args, facade.validationGroups(), methodName);
+                validateParameters(descriptor, args);
             }
 
             // 3. 执行目标方法
             Object result = pjp.proceed();
 
             // 4. 记录成功日志
-            stopWatch.stop();
-            if (facade.enableLogging()) {
-                logMethodSuccess(methodName, scene, args, result, stopWatch.getTotalTimeMillis());
+            if (sampled) {
+                logMethodSuccess(descriptor, result, elapsedMillis(startNanos));
             }
 
             return result;
 
         } catch (BizException e) {
             // 5. 处理业务异常
-            stopWatch.stop();
-            logMethodError(methodName, scene, args, e, stopWatch.getTotalTimeMillis());
-            return handleBizException(method, e);
+            logMethodError(descriptor, args, argsJson, e, elapsedMillis(startNanos));
+            return handleBizException(descriptor, e);
 
         } catch (SystemException e) {
             // 6. 处理系统异常
-            stopWatch.stop();
-            logMethodError(methodName, scene, args, e, stopWatch.getTotalTimeMillis());
-            return handleSystemException(method, e);
+            logMethodError(descriptor, args, argsJson, e, elapsedMillis(startNanos));
+            return handleSystemException(descriptor, e);
 
         } catch (Throwable e) {
             // 7. 处理其他异常
-            stopWatch.stop();
-            logMethodError(methodName, scene, args, e, stopWatch.getTotalTimeMillis());
-            return handleUnknownException(method, e);
+            logMethodError(descriptor, args, argsJson, e, elapsedMillis(startNanos));
+            return handleUnknownException(descriptor, e);
+        } finally {
+            if (scopedDeadline) {
+                DeadlineContext.restore(outerDeadline);
+            }
         }
     }
 
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
     /**
      * 🔍 执行参数校验
      * 
+     * <p>只校验方法描述符中记录的、声明了约束的参数；运行时类型与声明类型不同时按运行时类型再判断一次</p>
+     * 
+     * @param descriptor 方法描述符
      * @param args 方法参数数组
-     * @param groups 校验分组
-     * @param methodName 方法名（用于日志）
      */
-    private void validateParameters(Object[] args, Class<?>[] groups, String methodName) {
-        if (args == null || args.length == 0) {
+    private void validateParameters(FacadeMethodDescriptor descriptor, Object[] args) {
+        int[] indices = descriptor.validatedIndices;
+        if (indices.length == 0 || args == null) {
             return;
         }
 
-        for (int i = 0; i < args.length; i++) {
+        Class<?>[] groups = descriptor.facade.validationGroups();
+        for (int k = 0; k < indices.length; k++) {
+            int i = indices[k];
             Object parameter = args[i];
             if (parameter == null) {
                 continue;
             }
 
-            // 跳过基本类型和字符串
-            if (isSimpleType(parameter.getClass())) {
+            Class<?> type = parameter.getClass();
+            if (!descriptor.declaredConstrained[k]
+                    && (type == descriptor.declaredTypes[k] || !BeanValidator.isConstrained(type))) {
                 continue;
             }
 
             try {
-                if (groups.length > 0) {
-                    BeanValidator.validateObject(parameter, groups);
-                } else {
-                    BeanValidator.validateObject(parameter);
-                }
+                BeanValidator.validateObject(parameter, groups);
             } catch (BizException e) {
-                log.warn("方法 {} 第{}个参数校验失败: {}", methodName, i + 1, e.getMessage());
+                log.warn("方法 {} 第{}个参数校验失败: {}", descriptor.methodName, i + 1, e.getMessage());
                 throw new BizException(String.format("第%d个参数校验失败: %s", i + 1, e.getMessage()), CommonErrorCode.PARAM_INVALID);
             }
         }
@@ -185,7 +254,7 @@ public class FacadeAspect {
     /**
      * 判断是否为简单类型（不需要校验的类型）
      */
-    private boolean isSimpleType(Class<?> type) {
+    private static boolean isSimpleType(Class<?> type) {
         return type.isPrimitive() ||
                type == String.class ||
                type == Integer.class ||
@@ -201,57 +270,133 @@ public class FacadeAspect {
 
     /**
      * 📝 记录方法调用开始日志
+     * 
+     * @return 序列化得到的参数JSON，供失败日志复用；不输出参数时为null
      */
-    private void logMethodStart(String methodName, String scene, Object[] args) {
-        try {
-            String argsJson = JsonUtils.toJson(args);
-            log.info("🚀 [Facade] 开始执行方法: {} | 场景: {} | 参数: {}", methodName, scene, argsJson);
-        } catch (Exception e) {
-            log.info("🚀 [Facade] 开始执行方法: {} | 场景: {} | 参数: [序列化失败: {}]", methodName, scene, e.getMessage());
+    private String logMethodStart(FacadeMethodDescriptor descriptor, Object[] args) {
+        if (!descriptor.logArgs) {
+            log.info("🚀 [Facade] 开始执行方法: {} | 场景: {}", descriptor.methodName, descriptor.scene);
+            return null;
         }
+        // 在业务线程中序列化，得到调用当时的快照；异步时后台线程只拿到字符串
+        String argsJson = toPayloadJson(args, descriptor.maxPayloadChars);
+        if (logExecutor != null) {
+            submitLog(() -> log.info("🚀 [Facade] 开始执行方法: {} | 场景: {} | 参数: {}",
+                    descriptor.methodName, descriptor.scene, argsJson));
+        } else {
+            log.info("🚀 [Facade] 开始执行方法: {} | 场景: {} | 参数: {}", descriptor.methodName, descriptor.scene, argsJson);
+        }
+        return argsJson;
     }
 
     /**
      * ✅ 记录方法执行成功日志
      */
-    private void logMethodSuccess(String methodName, String scene, Object[] args, Object result, long timeMillis) {
+    private void logMethodSuccess(FacadeMethodDescriptor descriptor, Object result, long timeMillis) {
+        if (!descriptor.logResult) {
+            log.info("✅ [Facade] 方法执行成功: {} | 场景: {} | 耗时: {}ms", descriptor.methodName, descriptor.scene, timeMillis);
+            return;
+        }
+        String resultJson = toPayloadJson(result, descriptor.maxPayloadChars);
+        if (logExecutor != null) {
+            submitLog(() -> log.info("✅ [Facade] 方法执行成功: {} | 场景: {} | 耗时: {}ms | 结果: {}",
+                    descriptor.methodName, descriptor.scene, timeMillis, resultJson));
+        } else {
+            log.info("✅ [Facade] 方法执行成功: {} | 场景: {} | 耗时: {}ms | 结果: {}",
+                    descriptor.methodName, descriptor.scene, timeMillis, resultJson);
+        }
+    }
+
+    /**
+     * ❌ 记录方法执行失败日志（不采样、同步输出、一行）
+     * 
+     * @param argsJson 开始日志已序列化的参数，为null时在此序列化
+     */
+    private void logMethodError(FacadeMethodDescriptor descriptor, Object[] args, String argsJson, Throwable e, long timeMillis) {
+        // 业务拒绝是预期内的分支，输出WARN
+        boolean rejected = e instanceof BizException;
+        if (rejected ? !log.isWarnEnabled() : !log.isErrorEnabled()) {
+            return;
+        }
+        String payload = argsJson != null ? argsJson : toPayloadJson(args, descriptor.maxPayloadChars);
+        if (rejected) {
+            log.warn("⚠️ [Facade] 业务拒绝: {} | 场景: {} | 耗时: {}ms | 错误码: {} | 参数: {} | 原因: {}",
+                    descriptor.methodName, descriptor.scene, timeMillis, ((BizException) e).getErrorCode().getCode(),
+                    payload, e.getMessage());
+        } else if (e instanceof SystemException) {
+            log.error("❌ [Facade] 方法执行失败: {} | 场景: {} | 耗时: {}ms | 错误码: {} | 参数: {} | 异常: {}",
+                    descriptor.methodName, descriptor.scene, timeMillis, ((SystemException) e).getErrorCode().getCode(),
+                    payload, e.getMessage());
+        } else {
+            log.error("❌ [Facade] 方法执行失败: {} | 场景: {} | 耗时: {}ms | 参数: {} | 异常: {}", 
+                    descriptor.methodName, descriptor.scene, timeMillis, payload, e.getMessage());
+        }
+    }
+
+    /**
+     * 按长度上限序列化参数或结果，达到上限即停止序列化
+     */
+    private static String toPayloadJson(Object payload, int maxChars) {
         try {
-            String resultJson = JsonUtils.toJson(result);
-            log.info("✅ [Facade] 方法执行成功: {} | 场景: {} | 耗时: {}ms | 结果: {}", 
-                    methodName, scene, timeMillis, truncateString(resultJson, 500));
+            return maxChars > 0 ? JsonUtils.toJson(payload, maxChars) : JsonUtils.toJson(payload);
         } catch (Exception e) {
-            log.info("✅ [Facade] 方法执行成功: {} | 场景: {} | 耗时: {}ms | 结果: [序列化失败: {}]", 
-                    methodName, scene, timeMillis, e.getMessage());
+            return "[序列化失败: " + e.getMessage() + "]";
         }
     }
 
     /**
-     * ❌ 记录方法执行失败日志
+     * 把日志任务交给后台线程，携带当前线程的MDC；队列满时丢弃
      */
-    private void logMethodError(String methodName, String scene, Object[] args, Throwable e, long timeMillis) {
+    private void submitLog(Runnable task) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
         try {
-            String argsJson = JsonUtils.toJson(args);
-            log.error("❌ [Facade] 方法执行失败: {} | 场景: {} | 耗时: {}ms | 参数: {} | 异常: {}", 
-                    methodName, scene, timeMillis, argsJson, e.getMessage());
-        } catch (Exception ex) {
-            log.error("❌ [Facade] 方法执行失败: {} | 场景: {} | 耗时: {}ms | 参数: [序列化失败] | 异常: {}", 
-                    methodName, scene, timeMillis, e.getMessage());
+            logExecutor.execute(() -> {
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                }
+                try {
+                    task.run();
+                } finally {
+                    MDC.clear();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            droppedLogs.increment();
+        }
+    }
+
+    private static ThreadPoolExecutor createLogExecutor(int queueSize) {
+        AtomicInteger index = new AtomicInteger();
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize), r -> {
+            Thread thread = new Thread(r, "facade-log-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 异步日志队列满时丢弃的日志数
+     */
+    public long getDroppedLogCount() {
+        return droppedLogs.sum();
+    }
+
+    @PreDestroy
+    public void shutdownLogExecutor() {
+        if (logExecutor != null) {
+            logExecutor.shutdown();
+            if (droppedLogs.sum() > 0) {
+                log.warn("📝 [Facade] 异步日志队列满时共丢弃{}条日志", droppedLogs.sum());
+            }
         }
     }
 
     /**
      * 🛡️ 处理业务异常
      */
-    private Object handleBizException(Method method, BizException e) {
-        Class<?> returnType = method.getReturnType();
-        
+    private Object handleBizException(FacadeMethodDescriptor descriptor, BizException e) {
         // 如果返回类型是APIResponse，直接返回错误响应
-        if (APIResponse.class.isAssignableFrom(returnType)) {
-            return APIResponse.error(e.getErrorCode().getCode(), e.getErrorCode().getMessage());
-        }
-        
-        // 如果返回类型是泛型APIResponse，尝试构造
-        if (isGenericAPIResponse(method)) {
+        if (descriptor.returnsAPIResponse) {
             return APIResponse.error(e.getErrorCode().getCode(), e.getErrorCode().getMessage());
         }
         
@@ -262,10 +407,8 @@ public class FacadeAspect {
     /**
      * ⚠️ 处理系统异常
      */
-    private Object handleSystemException(Method method, SystemException e) {
-        Class<?> returnType = method.getReturnType();
-        
-        if (APIResponse.class.isAssignableFrom(returnType) || isGenericAPIResponse(method)) {
+    private Object handleSystemException(FacadeMethodDescriptor descriptor, SystemException e) {
+        if (descriptor.returnsAPIResponse) {
             return APIResponse.error(e.getErrorCode().getCode(), e.getErrorCode().getMessage());
         }
         
@@ -275,10 +418,8 @@ public class FacadeAspect {
     /**
      * 🚨 处理未知异常
      */
-    private Object handleUnknownException(Method method, Throwable e) throws Exception {
-        Class<?> returnType = method.getReturnType();
-        
-        if (APIResponse.class.isAssignableFrom(returnType) || isGenericAPIResponse(method)) {
+    private Object handleUnknownException(FacadeMethodDescriptor descriptor, Throwable e) throws Exception {
+        if (descriptor.returnsAPIResponse) {
             return APIResponse.error(CommonErrorCode.SYSTEM_ERROR.getCode(), "系统内部错误，请稍后重试");
         }
         
@@ -293,7 +434,7 @@ public class FacadeAspect {
     /**
      * 判断方法返回类型是否为泛型APIResponse
      */
-    private boolean isGenericAPIResponse(Method method) {
+    private static boolean isGenericAPIResponse(Method method) {
         Type genericReturnType = method.getGenericReturnType();
         if (genericReturnType instanceof ParameterizedType) {
             ParameterizedType parameterizedType = (ParameterizedType) genericReturnType;
@@ -304,12 +445,75 @@ public class FacadeAspect {
     }
 
     /**
-     * 截断字符串（避免日志过长）
+     * 📋 @Facade方法描述符
+     * 
+     * <p>缓存注解、方法名、场景、需要校验的参数位置和返回类型分类，切面每次调用只读取字段，不再反射解析</p>
      */
-    private String truncateString(String str, int maxLength) {
-        if (str == null || str.length() <= maxLength) {
-            return str;
+    private static final class FacadeMethodDescriptor {
+        private final Facade facade;
+        private final String methodName;
+        private final String scene;
+        /**
+         * 需要校验的参数位置：声明类型不是简单类型的参数
+         */
+        private final int[] validatedIndices;
+        /**
+         * 与validatedIndices一一对应：参数的声明类型
+         */
+        private final Class<?>[] declaredTypes;
+        /**
+         * 与validatedIndices一一对应：声明类型上是否有约束
+         */
+        private final boolean[] declaredConstrained;
+        /**
+         * 返回类型是否为APIResponse（含泛型），异常时可直接构造失败响应
+         */
+        private final boolean returnsAPIResponse;
+        /**
+         * 开始/成功日志的有效采样率，0表示不输出
+         */
+        private final double logSampleRate;
+        private final int maxPayloadChars;
+        private final boolean logArgs;
+        private final boolean logResult;
+
+        private FacadeMethodDescriptor(Method method, FacadeLoggingProperties logging) {
+            this.facade = method.getAnnotation(Facade.class);
+            this.methodName = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+            this.scene = facade.scene().isEmpty() ? methodName : facade.scene();
+            this.returnsAPIResponse = APIResponse.class.isAssignableFrom(method.getReturnType()) || isGenericAPIResponse(method);
+            this.logSampleRate = facade.enableLogging() && logging.isEnabled()
+                    ? (facade.logSampleRate() >= 0 ? facade.logSampleRate() : logging.getSampleRate())
+                    : 0.0;
+            this.maxPayloadChars = facade.maxLogPayloadChars() >= 0 ? facade.maxLogPayloadChars() : logging.getMaxPayloadChars();
+            this.logArgs = facade.logArgs();
+            this.logResult = facade.logResult();
+
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            int[] indices = new int[parameterTypes.length];
+            int count = 0;
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (!isSimpleType(parameterTypes[i])) {
+                    indices[count++] = i;
+                }
+            }
+            this.validatedIndices = Arrays.copyOf(indices, count);
+            this.declaredTypes = new Class<?>[count];
+            this.declaredConstrained = new boolean[count];
+            for (int k = 0; k < count; k++) {
+                declaredTypes[k] = parameterTypes[validatedIndices[k]];
+                declaredConstrained[k] = BeanValidator.isConstrained(declaredTypes[k]);
+            }
+        }
+
+        /**
+         * 本次调用是否输出开始/成功日志
+         */
+        private boolean isLogSampled() {
+            if (logSampleRate <= 0.0 || !log.isInfoEnabled()) {
+                return false;
+            }
+            return logSampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < logSampleRate;
         }
-        return str.substring(0, maxLength) + "...";
     }
 }
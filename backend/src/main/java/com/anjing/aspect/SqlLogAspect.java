@@ -2,20 +2,25 @@ package com.anjing.aspect;
 
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.Repository;
 import org.springframework.stereotype.Component;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
-import jakarta.servlet.http.HttpServletRequest;
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 
 /**
  * SQL日志切面
- * 
+ *
  * 监控Repository层的方法调用，配合JPA的SQL日志打印
  * 提供更详细的数据库操作上下文信息
+ *
+ * 切点匹配所有Spring Data Repository代理；请求ID由MDC输出，不再单独读取请求信息；
+ * 只记录参数个数和结果规模，不调用参数的toString。
+ * 每条SQL的耗时与次数由数据源上的{@link com.anjing.config.datasource.SqlProfilerFilter}统计
  */
 @Aspect
 @Component
@@ -25,135 +30,70 @@ public class SqlLogAspect
 
     /**
      * 环绕通知：监控Repository层方法
+     *
+     * <p>DEBUG关闭时只在异常时输出一行日志</p>
      */
-    @Around("execution(* com.anjing.backend_template.repository..*.*(..))")
+    @Around("this(org.springframework.data.repository.Repository)")
     public Object aroundRepositoryMethod(ProceedingJoinPoint joinPoint) throws Throwable {
-        long startTime = System.currentTimeMillis();
-        
-        // 获取请求上下文
-        String requestInfo = getRequestInfo();
-        
-        // 获取方法信息
-        String className = joinPoint.getSignature().getDeclaringTypeName();
-        String methodName = joinPoint.getSignature().getName();
-        Object[] args = joinPoint.getArgs();
-        
-        // 简化类名
-        String simpleClassName = className.substring(className.lastIndexOf('.') + 1);
-        
+        boolean debugEnabled = log.isDebugEnabled();
+        long startNanos = System.nanoTime();
+        Signature signature = joinPoint.getSignature();
+
         try {
-            log.info("🗄️ Repository方法开始 | {} | Method: {}.{} | Args: {}", 
-                    requestInfo, simpleClassName, methodName, formatArgs(args));
-            
+            if (debugEnabled) {
+                log.debug("🗄️ Repository方法开始 | Method: {}.{} | 参数个数: {}",
+                        simpleClassName(joinPoint), signature.getName(), joinPoint.getArgs().length);
+            }
+
             // 执行方法
             Object result = joinPoint.proceed();
-            
-            // 计算执行时间
-            long executionTime = System.currentTimeMillis() - startTime;
-            
-            log.info("✅ Repository方法完成 | {} | Method: {}.{} | 执行时间: {}ms | Result: {}", 
-                    requestInfo, simpleClassName, methodName, executionTime, formatResult(result));
-            
-            return result;
-            
-        } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - startTime;
-            
-            log.error("❌ Repository方法异常 | {} | Method: {}.{} | 执行时间: {}ms | Error: {}", 
-                    requestInfo, simpleClassName, methodName, executionTime, e.getMessage(), e);
-            
-            throw e;
-        }
-    }
 
-    /**
-     * 获取请求信息
-     */
-    private String getRequestInfo() {
-        try {
-            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attributes != null) {
-                HttpServletRequest request = attributes.getRequest();
-                return String.format("IP: %s | URL: %s %s", 
-                        getClientIp(request), 
-                        request.getMethod(), 
-                        request.getRequestURI());
+            if (debugEnabled) {
+                log.debug("✅ Repository方法完成 | Method: {}.{} | 执行时间: {}ms | Result: {}",
+                        simpleClassName(joinPoint), signature.getName(), elapsedMillis(startNanos), formatResult(result));
             }
+            return result;
+
         } catch (Exception e) {
-            // 忽略异常，可能是非Web环境调用
+            log.error("❌ Repository方法异常 | Method: {}.{} | 执行时间: {}ms | Error: {}",
+                    simpleClassName(joinPoint), signature.getName(), elapsedMillis(startNanos),
+                    e.getClass().getSimpleName() + ": " + e.getMessage());
+            throw e;
         }
-        return "非Web环境调用";
     }
 
     /**
-     * 获取客户端IP
+     * Repository接口名（代理类名没有意义）
      */
-    private String getClientIp(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip != null && !ip.isEmpty() && !"unknown".equalsIgnoreCase(ip)) {
-            int index = ip.indexOf(',');
-            if (index != -1) {
-                return ip.substring(0, index);
-            } else {
-                return ip;
+    private static String simpleClassName(ProceedingJoinPoint joinPoint) {
+        Class<?>[] interfaces = joinPoint.getThis() != null ? joinPoint.getThis().getClass().getInterfaces() : new Class<?>[0];
+        for (Class<?> type : interfaces) {
+            if (Repository.class.isAssignableFrom(type)) {
+                return type.getSimpleName();
             }
         }
-        
-        ip = request.getHeader("X-Real-IP");
-        if (ip != null && !ip.isEmpty() && !"unknown".equalsIgnoreCase(ip)) {
-            return ip;
-        }
-        
-        return request.getRemoteAddr();
+        return joinPoint.getSignature().getDeclaringType().getSimpleName();
     }
 
-    /**
-     * 格式化参数
-     */
-    private String formatArgs(Object[] args)
-    {
-        if (args == null || args.length == 0)
-        {
-            return "[]";
-        }
-        
-        // 限制参数长度，避免日志过长
-        String argsStr = Arrays.toString(args);
-        if (argsStr.length() > 200) {
-            return argsStr.substring(0, 200) + "...";
-        }
-        return argsStr;
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
     }
 
     /**
-     * 格式化返回结果
+     * 格式化返回结果：只输出类型和规模，不输出实体内容
      */
-    private String formatResult(Object result)
+    private static String formatResult(Object result)
     {
         if (result == null) {
             return "null";
         }
-        
-        String resultStr;
-        
-        // 特殊处理Collection类型
-        if (result instanceof java.util.Collection) {
-            java.util.Collection<?> collection = (java.util.Collection<?>) result;
-            resultStr = String.format("Collection[size=%d]", collection.size());
-        } 
-        // 特殊处理Page类型
-        else if (result.getClass().getSimpleName().contains("Page")) {
-            resultStr = String.format("Page[%s]", result.toString());
-        } 
-        // 其他类型
-        else {
-            resultStr = result.toString();
+        if (result instanceof Collection) {
+            return String.format("Collection[size=%d]", ((Collection<?>) result).size());
         }
-        
-        // 限制结果长度
-        if (resultStr.length() > 200) {
-            return resultStr.substring(0, 200) + "...";
+        if (result instanceof Slice) {
+            Slice<?> slice = (Slice<?>) result;
+            return String.format("Page[number=%d, size=%d]", slice.getNumber(), slice.getNumberOfElements());
         }
-        return resultStr;
+        return result.getClass().getSimpleName();
     }
 }
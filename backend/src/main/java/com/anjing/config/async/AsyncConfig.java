@@ -0,0 +1,29 @@
+package com.anjing.config.async;
+
+import com.anjing.util.trace.TraceContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 🔀 异步任务配置
+ *
+ * <p>注册{@link TaskDecorator}：Spring Boot自动配置的{@code applicationTaskExecutor}（{@code @Async}方法、
+ * 异步MVC等默认使用）在提交任务时捕获提交线程的请求ID，执行线程中的日志仍带有{@code requestId}</p>
+ *
+ * <p>自行创建的线程池不经过该装饰器，提交前用{@link TraceContext#wrap(java.util.concurrent.Executor)}包装</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 在异步任务中沿用提交线程的请求ID
+     */
+    @Bean
+    public TaskDecorator traceTaskDecorator() {
+        return TraceContext::wrap;
+    }
+}
@@ -0,0 +1,66 @@
+package com.anjing.config.datasource;
+
+import com.alibaba.druid.pool.DruidDataSource;
+import com.anjing.config.properties.SqlProfilerProperties;
+import com.anjing.util.sql.SqlProfiler;
+import com.anjing.util.sql.SqlQueryRecorder;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 🔬 SQL画像配置
+ *
+ * <p>把{@code app.sql-profiler}配置写入{@link SqlProfiler}和{@link SqlQueryRecorder}，并在Druid数据源初始化前
+ * 把{@link SqlProfilerFilter}加入它的过滤器链</p>
+ *
+ * <p>druid-spring-boot-starter在Spring Boot 3下不会自动配置，数据源由{@code spring.datasource.type}创建，
+ * 因此通过{@link BeanPostProcessor}注册过滤器，而不是{@code spring.datasource.druid.filters}</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class SqlProfilerConfig {
+
+    private final SqlProfilerProperties sqlProfilerProperties;
+
+    /**
+     * 应用SQL画像配置
+     */
+    @PostConstruct
+    public void applySettings() {
+        SqlProfiler.configure(sqlProfilerProperties.isEnabled(), sqlProfilerProperties.getSlowSqlMillis(),
+                sqlProfilerProperties.getMaxFingerprints());
+        SqlQueryRecorder.configure(sqlProfilerProperties.getRepeatedQueryThreshold());
+        log.info("🔬 SQL画像配置已加载 | 启用: {} | 慢SQL阈值: {}ms | 重复SQL阈值: {}", sqlProfilerProperties.isEnabled(),
+                sqlProfilerProperties.getSlowSqlMillis(), sqlProfilerProperties.getRepeatedQueryThreshold());
+    }
+
+    /**
+     * 为Druid数据源注册SQL画像过滤器
+     *
+     * <p>静态方法，避免提前初始化本配置类；是否统计由{@link SqlProfiler#isEnabled()}在运行时判断</p>
+     */
+    @Bean
+    public static BeanPostProcessor sqlProfilerFilterRegistrar() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof DruidDataSource) {
+                    DruidDataSource dataSource = (DruidDataSource) bean;
+                    boolean registered = dataSource.getProxyFilters().stream().anyMatch(SqlProfilerFilter.class::isInstance);
+                    if (!registered) {
+                        dataSource.getProxyFilters().add(new SqlProfilerFilter());
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
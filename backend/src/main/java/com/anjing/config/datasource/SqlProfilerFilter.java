@@ -0,0 +1,90 @@
+package com.anjing.config.datasource;
+
+import com.alibaba.druid.filter.FilterEventAdapter;
+import com.alibaba.druid.proxy.jdbc.ResultSetProxy;
+import com.alibaba.druid.proxy.jdbc.StatementProxy;
+import com.anjing.util.sql.SqlProfiler;
+
+/**
+ * 🔬 SQL画像Druid过滤器
+ *
+ * <p>挂在Druid数据源的过滤器链上，在JDBC层记录每条语句的耗时和绑定参数个数，交给{@link SqlProfiler}汇总。
+ * 不依赖Repository切面，JPA、JdbcTemplate以及直接使用数据源的代码都会被统计；
+ * 不读取参数值，只读取参数个数</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public class SqlProfilerFilter extends FilterEventAdapter {
+
+    /**
+     * 语句开始执行时间在{@link StatementProxy}属性中的key
+     */
+    private static final String START_NANOS_ATTRIBUTE = SqlProfilerFilter.class.getName() + ".startNanos";
+
+    @Override
+    protected void statementExecuteBefore(StatementProxy statement, String sql) {
+        markStart(statement);
+    }
+
+    @Override
+    protected void statementExecuteAfter(StatementProxy statement, String sql, boolean result) {
+        record(statement, sql, true);
+    }
+
+    @Override
+    protected void statementExecuteQueryBefore(StatementProxy statement, String sql) {
+        markStart(statement);
+    }
+
+    @Override
+    protected void statementExecuteQueryAfter(StatementProxy statement, String sql, ResultSetProxy resultSet) {
+        record(statement, sql, true);
+    }
+
+    @Override
+    protected void statementExecuteUpdateBefore(StatementProxy statement, String sql) {
+        markStart(statement);
+    }
+
+    @Override
+    protected void statementExecuteUpdateAfter(StatementProxy statement, String sql, int updateCount) {
+        record(statement, sql, true);
+    }
+
+    @Override
+    protected void statementExecuteBatchBefore(StatementProxy statement) {
+        markStart(statement);
+    }
+
+    @Override
+    protected void statementExecuteBatchAfter(StatementProxy statement, int[] result) {
+        record(statement, batchSql(statement), true);
+    }
+
+    @Override
+    protected void statement_executeErrorAfter(StatementProxy statement, String sql, Throwable error) {
+        record(statement, sql != null ? sql : batchSql(statement), false);
+    }
+
+    private static void markStart(StatementProxy statement) {
+        if (SqlProfiler.isEnabled()) {
+            statement.putAttribute(START_NANOS_ATTRIBUTE, System.nanoTime());
+        }
+    }
+
+    private static void record(StatementProxy statement, String sql, boolean success) {
+        Object startNanos = statement.getAttribute(START_NANOS_ATTRIBUTE);
+        if (!(startNanos instanceof Long)) {
+            return;
+        }
+        // 同一个Statement会被复用执行多次，取出后清除，避免下一次执行沿用旧的开始时间
+        statement.putAttribute(START_NANOS_ATTRIBUTE, null);
+        SqlProfiler.record(sql, statement.getParametersSize(), System.nanoTime() - (Long) startNanos, success);
+    }
+
+    private static String batchSql(StatementProxy statement) {
+        String sql = statement.getLastExecuteSql();
+        return sql != null ? sql : statement.getBatchSql();
+    }
+}
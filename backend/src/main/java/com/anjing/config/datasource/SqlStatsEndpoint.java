@@ -0,0 +1,130 @@
+package com.anjing.config.datasource;
+
+import com.anjing.config.properties.SqlProfilerProperties;
+import com.anjing.util.sql.SqlProfiler;
+import com.anjing.util.sql.SqlStatementStats;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🗄️ SQL统计端点
+ *
+ * <p>{@code GET /actuator/sqlstats?top=10}：按SQL指纹列出P99耗时最高和执行次数最多的语句，
+ * 附带平均绑定参数个数、失败次数和最慢一次所属的请求ID，可以直接拿请求ID查日志；
+ * {@code DELETE /actuator/sqlstats}清空统计</p>
+ *
+ * <p>⚠️ 响应包含应用执行的全部SQL指纹，且可以匿名清空统计，默认不加入{@code management.endpoints.web.exposure.include}。
+ * 需要通过HTTP访问时，只在鉴权之后或独立的内网管理端口上开放：</p>
+ * <pre>
+ * management:
+ *   server:
+ *     port: 9090          # 管理端点单独监听，只对内网/运维网络开放
+ *   endpoints:
+ *     web:
+ *       exposure:
+ *         include: health,info,metrics,remotecalls,sqlstats
+ * </pre>
+ * <p>未暴露时仍可在代码中通过{@link SqlProfiler#statements()}和{@link SqlProfiler#reset()}使用</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Component
+@Endpoint(id = "sqlstats")
+@RequiredArgsConstructor
+public class SqlStatsEndpoint {
+
+    private final SqlProfilerProperties sqlProfilerProperties;
+
+    /**
+     * 最慢和最频繁的语句
+     *
+     * @param top 返回数量，默认取配置的top-n
+     */
+    @ReadOperation
+    public Map<String, Object> statements(@Nullable Integer top) {
+        List<StatementSummary> summaries = new ArrayList<>();
+        for (SqlStatementStats stats : SqlProfiler.statements()) {
+            if (stats.getCount() > 0) {
+                summaries.add(summarize(stats));
+            }
+        }
+        int limit = top != null && top > 0 ? top : sqlProfilerProperties.getTopN();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("fingerprints", summaries.size());
+        summaries.sort(Comparator.comparingDouble(StatementSummary::getP99Millis)
+                .thenComparingDouble(StatementSummary::getMaxMillis)
+                .reversed());
+        result.put("slowest", new ArrayList<>(summaries.subList(0, Math.min(limit, summaries.size()))));
+        summaries.sort(Comparator.comparingLong(StatementSummary::getCount).reversed());
+        result.put("mostFrequent", new ArrayList<>(summaries.subList(0, Math.min(limit, summaries.size()))));
+        return result;
+    }
+
+    /**
+     * 清空统计
+     */
+    @DeleteOperation
+    public void reset() {
+        SqlProfiler.reset();
+    }
+
+    private static StatementSummary summarize(SqlStatementStats stats) {
+        long count = stats.getCount();
+        StatementSummary summary = new StatementSummary();
+        summary.setFingerprint(stats.getFingerprint());
+        summary.setCount(count);
+        summary.setErrorCount(stats.getErrorCount());
+        summary.setAvgBindCount(round((double) stats.getBindCount() / count));
+        summary.setMeanMillis(round(stats.getTotalNanos() / (double) count / TimeUnit.MILLISECONDS.toNanos(1)));
+        summary.setP50Millis(microsToMillis(stats.percentileMicros(50)));
+        summary.setP95Millis(microsToMillis(stats.percentileMicros(95)));
+        summary.setP99Millis(microsToMillis(stats.percentileMicros(99)));
+        summary.setMaxMillis(round(stats.getMaxNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1)));
+        summary.setTotalMillis(TimeUnit.NANOSECONDS.toMillis(stats.getTotalNanos()));
+        summary.setSlowestRequestId(stats.getSlowestRequestId());
+        return summary;
+    }
+
+    private static double microsToMillis(long micros) {
+        return micros < 0 ? -1 : round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    /**
+     * 单个SQL指纹的执行概况
+     */
+    @Data
+    public static class StatementSummary {
+        private String fingerprint;
+        private long count;
+        private long errorCount;
+        private double avgBindCount;
+        private double meanMillis;
+        private double p50Millis;
+        private double p95Millis;
+        private double p99Millis;
+        private double maxMillis;
+        private long totalMillis;
+        /**
+         * 最慢一次执行所属的请求ID
+         */
+        private String slowestRequestId;
+    }
+}
@@ -0,0 +1,65 @@
+package com.anjing.config.http;
+
+import com.anjing.config.properties.DeadlineProperties;
+import com.anjing.util.deadline.Deadline;
+import com.anjing.util.deadline.DeadlineContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ⏰ 请求截止时间过滤器
+ *
+ * <p>请求进入时按请求头（默认{@code X-Request-Timeout-Ms}）或默认超时设置截止时间，
+ * 请求结束后清除。请求头的值不超过{@code max-timeout-millis}</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private final DeadlineProperties deadlineProperties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !deadlineProperties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Deadline previous = DeadlineContext.set(Deadline.after(resolveTimeoutMillis(request), TimeUnit.MILLISECONDS));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DeadlineContext.restore(previous);
+        }
+    }
+
+    private long resolveTimeoutMillis(HttpServletRequest request) {
+        String header = request.getHeader(deadlineProperties.getHeader());
+        if (header != null && !header.isBlank()) {
+            try {
+                long timeout = Long.parseLong(header.trim());
+                if (timeout > 0) {
+                    return Math.min(timeout, deadlineProperties.getMaxTimeoutMillis());
+                }
+            } catch (NumberFormatException ignored) {
+                // 非法值按默认超时处理
+            }
+        }
+        return deadlineProperties.getDefaultTimeoutMillis();
+    }
+}
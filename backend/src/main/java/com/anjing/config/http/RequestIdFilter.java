@@ -0,0 +1,75 @@
+package com.anjing.config.http;
+
+import com.anjing.util.trace.TraceContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 🏷️ 请求ID与计时过滤器
+ *
+ * <p>每个HTTP请求进入时只生成一次请求ID、记录一次开始时间，保存在请求属性中，
+ * 之后的切面、异常处理直接读取，不再各自生成；请求ID同时写入响应头{@code X-Request-Id}</p>
+ *
+ * <p>上游通过{@code X-Request-Id}传入合法的请求ID时沿用，否则生成新的（见{@link TraceContext#newId()}）；
+ * 请求处理期间请求ID保存在MDC中，所有日志自动带上</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = TraceContext.HEADER;
+
+    public static final String REQUEST_ID_ATTRIBUTE = RequestIdFilter.class.getName() + ".requestId";
+
+    public static final String START_NANOS_ATTRIBUTE = RequestIdFilter.class.getName() + ".startNanos";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        request.setAttribute(START_NANOS_ATTRIBUTE, System.nanoTime());
+        String requestId = resolveRequestId(request);
+        request.setAttribute(REQUEST_ID_ATTRIBUTE, requestId);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        String previous = TraceContext.set(requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TraceContext.restore(previous);
+        }
+    }
+
+    /**
+     * 当前请求的ID，请求未经过本过滤器时为null
+     */
+    public static String requestId(HttpServletRequest request) {
+        Object requestId = request.getAttribute(REQUEST_ID_ATTRIBUTE);
+        return requestId instanceof String ? (String) requestId : null;
+    }
+
+    /**
+     * 请求进入过滤器时的{@link System#nanoTime()}，请求未经过本过滤器时返回当前时间
+     */
+    public static long startNanos(HttpServletRequest request) {
+        Object startNanos = request.getAttribute(START_NANOS_ATTRIBUTE);
+        return startNanos instanceof Long ? (Long) startNanos : System.nanoTime();
+    }
+
+    /**
+     * 沿用上游传入的合法请求ID，否则生成新的
+     */
+    private static String resolveRequestId(HttpServletRequest request) {
+        String inbound = request.getHeader(REQUEST_ID_HEADER);
+        return TraceContext.isValidInbound(inbound) ? inbound : TraceContext.newId();
+    }
+}
@@ -0,0 +1,70 @@
+package com.anjing.config.http;
+
+import com.anjing.util.sql.SqlProfiler;
+import com.anjing.util.sql.SqlQueryRecorder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 🔁 请求级N+1查询检测过滤器
+ *
+ * <p>每个HTTP请求开启一个{@link SqlQueryRecorder}作用域，请求结束后，
+ * 同一SQL指纹执行次数达到{@code app.sql-profiler.repeated-query-threshold}的，每个指纹输出一行告警日志，
+ * 并计入指标{@code sql.n.plus.one.detected}</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@Slf4j
+public class SqlQueryRecorderFilter extends OncePerRequestFilter {
+
+    private final Counter detectedCounter;
+
+    public SqlQueryRecorderFilter(MeterRegistry meterRegistry) {
+        this.detectedCounter = Counter.builder("sql.n.plus.one.detected")
+                .description("同一请求内执行次数达到阈值的SQL指纹数")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !SqlProfiler.isEnabled() || SqlQueryRecorder.getDefaultThreshold() <= 0;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlQueryRecorder.Recording recording = SqlQueryRecorder.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            recording.close();
+            report(request, recording);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlQueryRecorder.Recording recording) {
+        Map<String, Integer> repeated = recording.repeatedQueries();
+        if (repeated.isEmpty()) {
+            return;
+        }
+        detectedCounter.increment(repeated.size());
+        repeated.forEach((fingerprint, count) ->
+                log.warn("🔁 [SQL] 疑似N+1查询 | {} {} | 执行次数: {} | 本请求SQL总数: {} | SQL: {}",
+                        request.getMethod(), request.getRequestURI(), count, recording.getTotal(), fingerprint));
+    }
+}
@@ -0,0 +1,63 @@
+package com.anjing.config.id;
+
+import com.anjing.repository.IdWorkerLeaseRepository;
+import com.anjing.util.id.SnowflakeIdGenerator;
+
+import java.time.Duration;
+
+/**
+ * 🗄️ 基于数据库的工作节点ID租约
+ *
+ * <p>使用表{@code id_worker_lease}，每个节点ID一行；占用和续约都是一条带条件的UPDATE，
+ * 只有空闲、已过期或本来就归自己的行才会更新成功。到期时间使用应用服务器时间，
+ * 各实例之间的时钟偏差应远小于租约有效期</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public class DatabaseWorkerIdLease implements WorkerIdLease {
+
+    private final IdWorkerLeaseRepository repository;
+    private final String owner;
+    private final Duration ttl;
+    private volatile int nodeId = -1;
+
+    public DatabaseWorkerIdLease(IdWorkerLeaseRepository repository, String owner, Duration ttl) {
+        this.repository = repository;
+        this.owner = owner;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public long acquire(long dataCenterId) {
+        for (long workerId = 0; workerId <= SnowflakeIdGenerator.MAX_WORKER_ID; workerId++) {
+            int candidate = (int) ((dataCenterId << SnowflakeIdGenerator.WORKER_ID_BITS) | workerId);
+            repository.insertIfAbsent(candidate);
+            long now = System.currentTimeMillis();
+            if (repository.claim(candidate, owner, now + ttl.toMillis(), now) == 1) {
+                nodeId = candidate;
+                return workerId;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean renew() {
+        int current = nodeId;
+        if (current < 0) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        return repository.claim(current, owner, now + ttl.toMillis(), now) == 1;
+    }
+
+    @Override
+    public void release() {
+        int current = nodeId;
+        if (current >= 0) {
+            repository.release(current, owner);
+            nodeId = -1;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.anjing.config.id;
+
+import com.anjing.model.entity.IdSegment;
+import com.anjing.repository.IdSegmentRepository;
+import com.anjing.util.id.SegmentLoader;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 🗄️ 基于号段表的号段加载器
+ *
+ * <p>在一个事务中执行{@code UPDATE id_segment SET max_id = max_id + step}并读回{@code max_id}，
+ * 得到{@code (maxId - step, maxId]}；业务标识不存在时按默认步长插入一行再分配</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public class JpaSegmentLoader implements SegmentLoader {
+
+    private final IdSegmentRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final int defaultStep;
+
+    public JpaSegmentLoader(IdSegmentRepository repository, TransactionTemplate transactionTemplate, int defaultStep) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.defaultStep = Math.max(1, defaultStep);
+    }
+
+    @Override
+    public Segment load(String bizTag) {
+        return transactionTemplate.execute(status -> {
+            if (repository.increaseMaxId(bizTag) == 0) {
+                repository.insertIfAbsent(bizTag, defaultStep);
+                repository.increaseMaxId(bizTag);
+            }
+            IdSegment segment = repository.findById(bizTag)
+                    .orElseThrow(() -> new IllegalStateException("号段表中不存在业务标识: " + bizTag));
+            return new Segment(segment.getMaxId() - segment.getStep() + 1, segment.getMaxId());
+        });
+    }
+}
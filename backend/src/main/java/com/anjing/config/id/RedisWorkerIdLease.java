@@ -0,0 +1,77 @@
+package com.anjing.config.id;
+
+import com.anjing.util.id.SnowflakeIdGenerator;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.time.Duration;
+import java.util.Collections;
+
+/**
+ * 🔴 基于Redis的工作节点ID租约
+ *
+ * <p>key为{@code id:snowflake:worker:{数据中心ID}:{工作节点ID}}，值为实例标识；
+ * 占用使用{@code SET NX PX}，续约和释放用Lua脚本先比较持有者再操作</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public class RedisWorkerIdLease implements WorkerIdLease {
+
+    private static final String KEY_PREFIX = "id:snowflake:worker:";
+
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String owner;
+    private final Duration ttl;
+    private volatile String key;
+
+    public RedisWorkerIdLease(StringRedisTemplate redisTemplate, String owner, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.owner = owner;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public long acquire(long dataCenterId) {
+        for (long workerId = 0; workerId <= SnowflakeIdGenerator.MAX_WORKER_ID; workerId++) {
+            String candidate = KEY_PREFIX + dataCenterId + ":" + workerId;
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(candidate, owner, ttl))) {
+                key = candidate;
+                return workerId;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean renew() {
+        String current = key;
+        if (current == null) {
+            return false;
+        }
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, Collections.singletonList(current), owner,
+                String.valueOf(ttl.toMillis()));
+        if (renewed != null && renewed > 0) {
+            return true;
+        }
+        // key已过期（如Redis短暂不可用）时重新占用同一个ID
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(current, owner, ttl));
+    }
+
+    @Override
+    public void release() {
+        String current = key;
+        if (current != null) {
+            redisTemplate.execute(RELEASE_SCRIPT, Collections.singletonList(current), owner);
+            key = null;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.anjing.config.id;
+
+import com.anjing.config.properties.IdGeneratorProperties;
+import com.anjing.repository.IdSegmentRepository;
+import com.anjing.util.IdUtils;
+import com.anjing.util.trace.TraceContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 🔢 号段ID配置
+ *
+ * <p>为{@link IdUtils#nextSegmentId(String)}提供基于号段表{@code id_segment}的号段加载器和预取线程池，
+ * 订单号等需要稠密、不重复的编号使用号段ID</p>
+ *
+ * <p>号段在独立事务（REQUIRES_NEW）中分配，不受调用方事务回滚影响，也不会延长调用方事务持有行锁的时间</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.id-generator.segment.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class SegmentIdConfig {
+
+    private final IdGeneratorProperties idGeneratorProperties;
+    private final IdSegmentRepository idSegmentRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private ExecutorService preloadExecutor;
+
+    /**
+     * 配置号段加载器
+     */
+    @PostConstruct
+    public void configureSegments() {
+        IdGeneratorProperties.Segment segment = idGeneratorProperties.getSegment();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        // 单线程顺序预取：每个业务标识同时最多一个预取任务，队列中的任务不会多于业务标识数
+        preloadExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "id-segment-preload-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 预取由某个请求触发，预取日志沿用该请求的请求ID
+        IdUtils.configureSegments(new JpaSegmentLoader(idSegmentRepository, transactionTemplate, segment.getDefaultStep()),
+                TraceContext.wrap(preloadExecutor), segment.getPreloadAfterRatio());
+        log.info("🔢 号段ID已启用 | 默认步长: {} | 预取比例: {}", segment.getDefaultStep(), segment.getPreloadAfterRatio());
+    }
+
+    /**
+     * 停止预取线程池
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (preloadExecutor != null) {
+            preloadExecutor.shutdownNow();
+        }
+    }
+}
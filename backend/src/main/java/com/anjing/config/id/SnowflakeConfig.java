@@ -0,0 +1,196 @@
+package com.anjing.config.id;
+
+import com.anjing.config.properties.IdGeneratorProperties;
+import com.anjing.model.errorcode.CommonErrorCode;
+import com.anjing.model.exception.SystemException;
+import com.anjing.repository.IdWorkerLeaseRepository;
+import com.anjing.util.IdUtils;
+import com.anjing.util.id.SnowflakeIdGenerator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ❄️ 雪花算法节点ID配置
+ *
+ * <p>启动时按{@code app.id-generator.snowflake.worker-id-source}确定本实例的工作节点ID，
+ * 创建{@link SnowflakeIdGenerator}替换{@link IdUtils}中的默认实例（默认实例固定为1/1，仅适合单机）</p>
+ *
+ * <ul>
+ *   <li><b>config</b> - 使用配置的worker-id，由部署方保证各实例不同</li>
+ *   <li><b>redis / database</b> - 租用一个空闲的工作节点ID，后台每1/3有效期续约一次；
+ *       续约失败（租约可能已被其他实例占用）时改租一个新的ID并替换生成器，停止时释放</li>
+ * </ul>
+ *
+ * <p>租用的节点ID只在"上次成功续约（或租用）的开始时间 + 有效期 - 安全余量"之前发号：
+ * Redis/数据库不可用导致续约一直失败时，在租约可能过期、被其他实例接手之前停止发号
+ * （抛出{@link CommonErrorCode#ID_GENERATE_FAILED}），续约或改租成功后恢复；
+ * 确认租约已丢失时立即停止旧生成器，再改租新的ID</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class SnowflakeConfig {
+
+    private final IdGeneratorProperties idGeneratorProperties;
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final ObjectProvider<IdWorkerLeaseRepository> leaseRepositoryProvider;
+
+    private WorkerIdLease lease;
+    private ScheduledExecutorService renewExecutor;
+
+    /**
+     * 租约有效期（毫秒）
+     */
+    private long leaseTtlMillis;
+
+    /**
+     * 安全余量（毫秒），覆盖续约请求耗时和实例间的时钟偏差
+     */
+    private long safetyMarginMillis;
+
+    /**
+     * 分配节点ID并替换雪花算法实例
+     */
+    @PostConstruct
+    public void configureSnowflake() {
+        IdGeneratorProperties.Snowflake snowflake = idGeneratorProperties.getSnowflake();
+        long workerId;
+        if (snowflake.getWorkerIdSource() == IdGeneratorProperties.WorkerIdSource.CONFIG) {
+            workerId = snowflake.getWorkerId();
+            IdUtils.configureSnowflake(new SnowflakeIdGenerator(workerId, snowflake.getDataCenterId(),
+                    snowflake.getMaxBackwardMillis()));
+        } else {
+            lease = createLease(snowflake);
+            leaseTtlMillis = TimeUnit.SECONDS.toMillis(Math.max(3, snowflake.getLeaseTtlSeconds()));
+            safetyMarginMillis = leaseTtlMillis / 6;
+            workerId = acquireAndInstall(snowflake);
+            startRenewal();
+        }
+        log.info("❄️ 雪花算法节点ID已分配 | 来源: {} | 数据中心ID: {} | 工作节点ID: {}",
+                snowflake.getWorkerIdSource(), snowflake.getDataCenterId(), workerId);
+    }
+
+    /**
+     * 停止续约并释放租约
+     */
+    @PreDestroy
+    public void releaseLease() {
+        if (renewExecutor != null) {
+            renewExecutor.shutdownNow();
+        }
+        if (lease != null) {
+            try {
+                lease.release();
+            } catch (Exception e) {
+                log.warn("❄️ 释放雪花算法节点ID租约失败，等待租约自然过期: {}", e.getMessage());
+            }
+        }
+    }
+
+    private WorkerIdLease createLease(IdGeneratorProperties.Snowflake snowflake) {
+        Duration ttl = Duration.ofSeconds(Math.max(3, snowflake.getLeaseTtlSeconds()));
+        String owner = instanceId();
+        if (snowflake.getWorkerIdSource() == IdGeneratorProperties.WorkerIdSource.REDIS) {
+            StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+            if (redisTemplate == null) {
+                throw new SystemException("worker-id-source=redis需要启用Redis（app.features.redis.enabled）",
+                        CommonErrorCode.ID_GENERATE_FAILED);
+            }
+            return new RedisWorkerIdLease(redisTemplate, owner, ttl);
+        }
+        IdWorkerLeaseRepository repository = leaseRepositoryProvider.getIfAvailable();
+        if (repository == null) {
+            throw new SystemException("worker-id-source=database需要启用数据库", CommonErrorCode.ID_GENERATE_FAILED);
+        }
+        return new DatabaseWorkerIdLease(repository, owner, ttl);
+    }
+
+    private long acquireWorkerId(long dataCenterId) {
+        long workerId = lease.acquire(dataCenterId);
+        if (workerId < 0) {
+            throw new SystemException("数据中心" + dataCenterId + "下没有空闲的工作节点ID",
+                    CommonErrorCode.ID_GENERATE_FAILED);
+        }
+        return workerId;
+    }
+
+    /**
+     * 租用一个节点ID并替换生成器，有效期从发出租用请求的时间开始计算
+     */
+    private long acquireAndInstall(IdGeneratorProperties.Snowflake snowflake) {
+        long requestedAt = System.currentTimeMillis();
+        long workerId = acquireWorkerId(snowflake.getDataCenterId());
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(workerId, snowflake.getDataCenterId(),
+                snowflake.getMaxBackwardMillis());
+        generator.setValidUntil(validUntil(requestedAt));
+        IdUtils.configureSnowflake(generator);
+        return workerId;
+    }
+
+    private long validUntil(long requestedAt) {
+        return requestedAt + leaseTtlMillis - safetyMarginMillis;
+    }
+
+    private void startRenewal() {
+        long periodMillis = leaseTtlMillis / 3;
+        renewExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "snowflake-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+        renewExecutor.scheduleWithFixedDelay(this::renew, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void renew() {
+        SnowflakeIdGenerator current = IdUtils.getSnowflake();
+        long requestedAt = System.currentTimeMillis();
+        try {
+            if (lease.renew()) {
+                current.setValidUntil(validUntil(requestedAt));
+                return;
+            }
+        } catch (Exception e) {
+            log.error("❄️ 雪花算法节点ID续约失败，下个周期重试 | 停止发号时间: {} | 原因: {}",
+                    Instant.ofEpochMilli(current.getValidUntil()), e.getMessage());
+            return;
+        }
+        // 租约已被其他实例占用：先停止旧生成器，再改租新的ID
+        current.setValidUntil(0L);
+        try {
+            long workerId = acquireAndInstall(idGeneratorProperties.getSnowflake());
+            log.error("❄️ 雪花算法节点ID租约已丢失，改用新的工作节点ID: {}", workerId);
+        } catch (Exception e) {
+            log.error("❄️ 雪花算法节点ID租约已丢失且改租失败，暂停发号，下个周期重试: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 实例标识：主机名 + 进程号 + 随机数，同一主机上的多个进程也不会相同
+     */
+    private static String instanceId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + ProcessHandle.current().pid() + "-"
+                + Long.toHexString(ThreadLocalRandom.current().nextLong() & 0xffffffL);
+    }
+}
@@ -0,0 +1,32 @@
+package com.anjing.config.id;
+
+/**
+ * 🆔 雪花算法工作节点ID租约
+ *
+ * <p>启动时在共享存储中占用一个空闲的工作节点ID，运行期间定期续约，停止时释放</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public interface WorkerIdLease {
+
+    /**
+     * 在指定数据中心下占用一个空闲的工作节点ID
+     *
+     * @param dataCenterId 数据中心ID
+     * @return 工作节点ID，没有空闲ID时返回-1
+     */
+    long acquire(long dataCenterId);
+
+    /**
+     * 续约
+     *
+     * @return 是否仍持有租约
+     */
+    boolean renew();
+
+    /**
+     * 释放租约
+     */
+    void release();
+}
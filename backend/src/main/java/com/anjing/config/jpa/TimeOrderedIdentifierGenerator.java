@@ -0,0 +1,79 @@
+package com.anjing.config.jpa;
+
+import com.anjing.annotation.TimeOrderedId;
+import com.anjing.util.IdUtils;
+import com.anjing.util.id.TimeOrderedIdGenerator;
+import com.anjing.util.id.UuidCodec;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * ⏱️ UUIDv7 / ULID 主键生成器
+ *
+ * <p>由{@link TimeOrderedId}注解启用，插入前在内存中生成主键，不访问数据库；
+ * 共用{@link IdUtils#getTimeOrdered()}，同一实例内所有实体的主键单调递增</p>
+ *
+ * <p>按字段类型在创建时选定编码方式，生成时不再判断类型</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public class TimeOrderedIdentifierGenerator implements BeforeExecutionGenerator {
+
+    private final Supplier<Object> supplier;
+
+    /**
+     * 主键生成器（Hibernate按{@code @IdGeneratorType}创建时使用此签名）
+     */
+    public TimeOrderedIdentifierGenerator(TimeOrderedId config, Member member, CustomIdGeneratorCreationContext context) {
+        this(config, member, (GeneratorCreationContext) context);
+    }
+
+    public TimeOrderedIdentifierGenerator(TimeOrderedId config, Member member, GeneratorCreationContext context) {
+        Class<?> type = typeOf(member);
+        TimeOrderedIdGenerator generator = IdUtils.getTimeOrdered();
+        boolean ulid = config.format() == TimeOrderedId.Format.ULID;
+        if (UUID.class == type) {
+            this.supplier = ulid ? generator::nextUlidAsUuid : generator::nextUuid;
+        } else if (String.class == type) {
+            this.supplier = ulid ? generator::nextUlid : generator::nextUuidString;
+        } else if (byte[].class == type) {
+            this.supplier = ulid ? () -> UuidCodec.toBytes(generator.nextUlidAsUuid()) : generator::nextUuidBytes;
+        } else {
+            throw new HibernateException("@TimeOrderedId不支持的主键类型: " + type.getName()
+                    + "（" + member.getDeclaringClass().getName() + "." + member.getName() + "）");
+        }
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return supplier.get();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    private static Class<?> typeOf(Member member) {
+        if (member instanceof Field) {
+            return ((Field) member).getType();
+        }
+        if (member instanceof Method) {
+            return ((Method) member).getReturnType();
+        }
+        throw new HibernateException("@TimeOrderedId只能标注在字段或getter上: " + member);
+    }
+}
@@ -1,5 +1,6 @@
 package com.anjing.config.lock;
 
+import com.anjing.util.deadline.DeadlineContext;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -62,7 +63,9 @@ public class LocalLockConfig {
             ReentrantLock lock = locks.computeIfAbsent(lockKey, k -> new ReentrantLock());
             
             try {
-                boolean acquired = lock.tryLock(waitTime, java.util.concurrent.TimeUnit.SECONDS);
+                // 等待时间不超过请求的剩余截止时间
+                long waitMillis = DeadlineContext.remainingMillis(java.util.concurrent.TimeUnit.SECONDS.toMillis(waitTime));
+                boolean acquired = lock.tryLock(waitMillis, java.util.concurrent.TimeUnit.MILLISECONDS);
                 if (acquired) {
                     log.debug("🔒 本地锁获取成功: {}", lockKey);
                 } else {
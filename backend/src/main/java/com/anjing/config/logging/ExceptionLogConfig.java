@@ -0,0 +1,47 @@
+package com.anjing.config.logging;
+
+import com.anjing.config.properties.ExceptionLogProperties;
+import com.anjing.util.ExceptionUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🚨 异常日志限流配置
+ *
+ * <p>把{@code app.exception-log}配置写入{@link ExceptionUtils}，并每个窗口输出一次被抑制的异常次数</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class ExceptionLogConfig {
+
+    private final ExceptionLogProperties exceptionLogProperties;
+
+    /**
+     * 应用异常日志限流配置
+     */
+    @PostConstruct
+    public void applySettings() {
+        ExceptionUtils.configure(exceptionLogProperties.getMaxReportsPerWindow(),
+                exceptionLogProperties.getWindowSeconds(), exceptionLogProperties.getFingerprintFrames());
+        log.info("🚨 异常日志限流配置已加载 | 每窗口输出: {}次 | 窗口: {}s", exceptionLogProperties.getMaxReportsPerWindow(),
+                exceptionLogProperties.getWindowSeconds());
+    }
+
+    /**
+     * 输出已结束窗口内被抑制的异常次数
+     */
+    @Scheduled(fixedDelayString = "${app.exception-log.window-seconds:60}",
+            initialDelayString = "${app.exception-log.window-seconds:60}", timeUnit = TimeUnit.SECONDS)
+    public void flushSuppressed() {
+        ExceptionUtils.flushSuppressed();
+    }
+}
@@ -0,0 +1,49 @@
+package com.anjing.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * ⏰ 请求截止时间配置类
+ *
+ * <p>为每个HTTP请求设置端到端的截止时间，见{@link com.anjing.util.deadline.DeadlineContext}</p>
+ *
+ * <h3>📋 配置示例：</h3>
+ * <pre>
+ * app:
+ *   deadline:
+ *     enabled: true
+ *     default-timeout-millis: 30000
+ *     max-timeout-millis: 60000
+ *     header: X-Request-Timeout-Ms
+ * </pre>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.deadline")
+public class DeadlineProperties {
+
+    /**
+     * 是否为HTTP请求设置截止时间
+     */
+    private boolean enabled = true;
+
+    /**
+     * 请求未携带超时头时的默认超时（毫秒）
+     */
+    private long defaultTimeoutMillis = 30000;
+
+    /**
+     * 请求可声明的最大超时（毫秒），防止客户端传入过大的值
+     */
+    private long maxTimeoutMillis = 60000;
+
+    /**
+     * 客户端声明剩余超时时间（毫秒）的请求头
+     */
+    private String header = "X-Request-Timeout-Ms";
+}
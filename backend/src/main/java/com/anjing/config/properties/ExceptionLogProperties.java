@@ -0,0 +1,45 @@
+package com.anjing.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🚨 异常日志限流配置类
+ *
+ * <p>{@link com.anjing.util.ExceptionUtils}按异常指纹（类型 + 根因的前几个栈帧）限流：
+ * 同一指纹在一个窗口内只完整输出前几次，其余只计数，窗口结束后输出被抑制的次数，
+ * 避免故障期间同一个异常刷满日志磁盘；不带堆栈的业务/系统异常按接口分别计算指纹</p>
+ *
+ * <h3>📋 配置示例：</h3>
+ * <pre>
+ * app:
+ *   exception-log:
+ *     max-reports-per-window: 5
+ *     window-seconds: 60
+ *     fingerprint-frames: 3
+ * </pre>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.exception-log")
+public class ExceptionLogProperties {
+
+    /**
+     * 同一指纹每个窗口完整输出的次数，小于等于0表示不限流
+     */
+    private int maxReportsPerWindow = 5;
+
+    /**
+     * 限流窗口长度（秒）
+     */
+    private long windowSeconds = 60;
+
+    /**
+     * 参与指纹计算的根因栈帧数
+     */
+    private int fingerprintFrames = 3;
+}
@@ -0,0 +1,60 @@
+package com.anjing.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 📝 Facade日志配置类
+ *
+ * <p>控制{@link com.anjing.aspect.FacadeAspect}的调用日志：采样、参数/结果的长度上限以及异步格式化，
+ * 单个方法可通过{@link com.anjing.annotation.Facade}的日志属性覆盖</p>
+ *
+ * <h3>📋 配置示例：</h3>
+ * <pre>
+ * app:
+ *   facade:
+ *     logging:
+ *       enabled: true
+ *       sample-rate: 1.0
+ *       max-payload-chars: 500
+ *       async: false
+ *       async-queue-size: 2048
+ * </pre>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.facade.logging")
+public class FacadeLoggingProperties {
+
+    /**
+     * 是否记录开始/成功日志，关闭后只记录失败日志
+     */
+    private boolean enabled = true;
+
+    /**
+     * 开始/成功日志的采样率（0~1），失败日志不采样
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * 参数、结果序列化的最大字符数，达到上限即停止序列化；小于等于0表示不限制
+     */
+    private int maxPayloadChars = 500;
+
+    /**
+     * 是否在后台线程输出开始、成功日志
+     *
+     * <p>参数/结果仍在业务线程中按{@link #maxPayloadChars}序列化（得到调用当时的快照），
+     * 后台线程只负责格式化和写出日志</p>
+     */
+    private boolean async = false;
+
+    /**
+     * 异步日志队列长度，队列满时丢弃日志而不阻塞业务线程
+     */
+    private int asyncQueueSize = 2048;
+}
@@ -0,0 +1,113 @@
+package com.anjing.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🆔 ID生成配置类
+ *
+ * <p>为{@link com.anjing.util.IdUtils}的雪花算法分配节点ID。集群中每个实例的"数据中心ID + 工作节点ID"必须不同：
+ * 可以在每个实例上分别配置，也可以在启动时从Redis或数据库租用一个空闲的工作节点ID；
+ * 订单号等需要稠密编号的场景使用数据库号段（{@link com.anjing.util.IdUtils#nextSegmentId(String)}）</p>
+ *
+ * <h3>📋 配置示例：</h3>
+ * <pre>
+ * app:
+ *   id-generator:
+ *     snowflake:
+ *       worker-id-source: redis      # config / redis / database
+ *       data-center-id: 1
+ *       worker-id: 1                 # 仅worker-id-source=config时使用
+ *       max-backward-millis: 1000
+ *       lease-ttl-seconds: 60
+ *     segment:
+ *       enabled: true
+ *       default-step: 1000
+ *       preload-after-ratio: 0.1
+ * </pre>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.id-generator")
+public class IdGeneratorProperties {
+
+    /**
+     * 雪花算法配置
+     */
+    private Snowflake snowflake = new Snowflake();
+
+    /**
+     * 号段ID配置
+     */
+    private Segment segment = new Segment();
+
+    @Data
+    public static class Snowflake {
+
+        /**
+         * 工作节点ID来源
+         */
+        private WorkerIdSource workerIdSource = WorkerIdSource.CONFIG;
+
+        /**
+         * 数据中心ID（0-31）
+         */
+        private long dataCenterId = 1;
+
+        /**
+         * 工作节点ID（0-31），仅{@code worker-id-source=config}时使用
+         */
+        private long workerId = 1;
+
+        /**
+         * 可容忍的时钟回拨（毫秒），范围内继续按逻辑时钟发号
+         */
+        private long maxBackwardMillis = 1000;
+
+        /**
+         * 租约有效期（秒），每1/3有效期续约一次
+         */
+        private long leaseTtlSeconds = 60;
+    }
+
+    @Data
+    public static class Segment {
+
+        /**
+         * 是否启用号段ID（需要数据库，号段表id_segment）
+         */
+        private boolean enabled = true;
+
+        /**
+         * 新业务标识的默认号段长度，已存在的业务标识以表中step为准
+         */
+        private int defaultStep = 1000;
+
+        /**
+         * 当前号段用掉该比例后在后台预取下一个号段（0-1）
+         */
+        private double preloadAfterRatio = 0.1;
+    }
+
+    /**
+     * 工作节点ID来源
+     */
+    public enum WorkerIdSource {
+        /**
+         * 使用配置的worker-id
+         */
+        CONFIG,
+        /**
+         * 启动时在Redis中租用（SET NX PX）
+         */
+        REDIS,
+        /**
+         * 启动时在数据库表id_worker_lease中租用
+         */
+        DATABASE
+    }
+}
@@ -0,0 +1,71 @@
+package com.anjing.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🔐 密码加密配置类
+ *
+ * <p>{@link com.anjing.util.PasswordUtils}使用PBKDF2-HMAC-SHA256，迭代次数取固定配置，
+ * 可临时开启校准测量本机合适的值再写入{@code iterations}；
+ * 登录校验在有界的专用线程池中执行，登录高峰时排队或快速失败，不占用请求线程</p>
+ *
+ * <h3>📋 配置示例：</h3>
+ * <pre>
+ * app:
+ *   password:
+ *     calibrate: false
+ *     target-millis: 200
+ *     min-iterations: 310000
+ *     max-iterations: 5000000
+ *     iterations: 600000
+ *     verify-threads: 4
+ *     verify-queue-capacity: 200
+ * </pre>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.password")
+public class PasswordHashProperties {
+
+    /**
+     * 是否在启动时按目标耗时校准迭代次数；关闭时使用{@link #iterations}
+     *
+     * <p>校准结果随机器和负载波动，各实例、每次发布都可能不同，只作为选择{@link #iterations}的工具使用</p>
+     */
+    private boolean calibrate = false;
+
+    /**
+     * 单次加密的目标耗时（毫秒）
+     */
+    private long targetMillis = 200;
+
+    /**
+     * 校准结果的下限，机器再慢也不低于该值
+     */
+    private int minIterations = 310_000;
+
+    /**
+     * 校准结果的上限
+     */
+    private int maxIterations = 5_000_000;
+
+    /**
+     * 新密码使用的迭代次数（不校准时）
+     */
+    private int iterations = 600_000;
+
+    /**
+     * 密码校验线程数，小于等于0时取CPU核数的一半（至少2）
+     */
+    private int verifyThreads = 0;
+
+    /**
+     * 密码校验等待队列长度，队列满时校验请求直接失败
+     */
+    private int verifyQueueCapacity = 200;
+}
@@ -0,0 +1,79 @@
+package com.anjing.config.properties;
+
+import com.anjing.util.remote.RemoteCallPolicy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 🌐 远程调用治理配置类
+ *
+ * <p>为{@link com.anjing.util.RemoteCallWrapper}提供按方法名生效的熔断、舱壁等参数，以及耗时指标参数</p>
+ *
+ * <h3>📋 配置示例：</h3>
+ * <pre>
+ * app:
+ *   remote-call:
+ *     defaults:
+ *       circuit-breaker:
+ *         failure-rate-threshold: 50
+ *         minimum-calls: 20
+ *       bulkhead:
+ *         max-concurrent-calls: 64
+ *     methods:
+ *       processPayment:
+ *         circuit-breaker:
+ *           enabled: true
+ *         bulkhead:
+ *           enabled: true
+ *           max-concurrent-calls: 16
+ * </pre>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.remote-call")
+public class RemoteCallProperties {
+
+    /**
+     * 默认治理策略
+     */
+    private RemoteCallPolicy defaults = new RemoteCallPolicy();
+
+    /**
+     * 方法级治理策略，key为RemoteCallWrapper中的methodName；
+     * 生效时由{@code RemoteCallConfig}叠加在defaults之上重新绑定，只覆盖填写的字段
+     */
+    private Map<String, RemoteCallPolicy> methods = new HashMap<>();
+
+    /**
+     * 耗时指标配置
+     */
+    private Metrics metrics = new Metrics();
+
+    /**
+     * 耗时指标配置
+     */
+    @Data
+    public static class Metrics {
+        /**
+         * 发布的耗时分位数
+         */
+        private double[] percentiles = {0.5, 0.95, 0.99};
+
+        /**
+         * 分位数统计的滑动窗口（秒）
+         */
+        private int windowSeconds = 60;
+
+        /**
+         * remotecalls端点默认返回的最慢依赖数量
+         */
+        private int topN = 10;
+    }
+}
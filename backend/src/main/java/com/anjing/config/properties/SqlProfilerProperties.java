@@ -0,0 +1,57 @@
+package com.anjing.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🔬 SQL画像配置类
+ *
+ * <p>控制数据源上的{@link com.anjing.config.datasource.SqlProfilerFilter}：按SQL指纹统计执行次数与耗时，
+ * 输出慢SQL日志，结果通过{@code /actuator/sqlstats}查看；
+ * 并按请求检测重复执行的SQL（N+1查询），见{@link com.anjing.util.sql.SqlQueryRecorder}</p>
+ *
+ * <h3>📋 配置示例：</h3>
+ * <pre>
+ * app:
+ *   sql-profiler:
+ *     enabled: true
+ *     slow-sql-millis: 500
+ *     max-fingerprints: 2000
+ *     top-n: 10
+ *     repeated-query-threshold: 20
+ * </pre>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.sql-profiler")
+public class SqlProfilerProperties {
+
+    /**
+     * 是否统计SQL执行情况
+     */
+    private boolean enabled = true;
+
+    /**
+     * 慢SQL阈值（毫秒），超过时输出一行告警日志；小于等于0表示不输出
+     */
+    private long slowSqlMillis = 500;
+
+    /**
+     * 指纹数量上限，超出后新指纹合并统计
+     */
+    private int maxFingerprints = 2000;
+
+    /**
+     * {@code /actuator/sqlstats}默认返回的条数
+     */
+    private int topN = 10;
+
+    /**
+     * 同一SQL指纹在一个HTTP请求内的执行次数阈值，达到即视为疑似N+1查询；小于等于0表示不检测
+     */
+    private int repeatedQueryThreshold = 20;
+}
@@ -0,0 +1,154 @@
+package com.anjing.config.remote;
+
+import com.anjing.config.properties.RemoteCallProperties;
+import com.anjing.util.remote.RemoteCallMetrics;
+import com.anjing.util.remote.RemoteCallPolicy;
+import com.anjing.util.remote.RemoteCallRegistry;
+import com.anjing.util.remote.RemoteMethodGuard;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 🌐 远程调用治理配置
+ *
+ * <p>把{@code app.remote-call}配置写入{@link RemoteCallRegistry}（方法级配置叠加在defaults之上），
+ * 并把每个方法的熔断器、舱壁、并发限制、重试预算、对冲、单飞合并状态注册为Micrometer指标</p>
+ *
+ * <h3>📊 指标列表（tag: method）：</h3>
+ * <ul>
+ *   <li><b>remote.call.duration</b>（tag: outcome） - 调用耗时与分位数，见{@link RemoteCallMetrics}</li>
+ *   <li><b>remote.call.retries</b> - 重试次数</li>
+ *   <li><b>remote.call.circuit.state</b> - 熔断器状态：0关闭 / 1打开 / 2半开</li>
+ *   <li><b>remote.call.circuit.failure.rate</b> - 窗口内失败率（百分比）</li>
+ *   <li><b>remote.call.circuit.rejected</b> - 被熔断拒绝的调用数</li>
+ *   <li><b>remote.call.bulkhead.in.flight</b> - 在途调用数</li>
+ *   <li><b>remote.call.bulkhead.rejected</b> - 被舱壁拒绝的调用数</li>
+ *   <li><b>remote.call.concurrency.limit</b> - 当前自适应并发限制</li>
+ *   <li><b>remote.call.concurrency.rejected</b> - 超过自适应并发限制被拒绝的调用数</li>
+ *   <li><b>remote.call.retry.budget.exhausted</b> - 因重试预算耗尽而放弃的重试数</li>
+ *   <li><b>remote.call.hedge.delay</b> - 当前对冲延迟（毫秒），-1表示不对冲</li>
+ *   <li><b>remote.call.hedge.sent</b> / <b>remote.call.hedge.won</b> - 已发出 / 胜出的对冲请求数</li>
+ *   <li><b>remote.call.hedge.budget.exhausted</b> - 因对冲预算耗尽而放弃的对冲数</li>
+ *   <li><b>remote.call.single.flight.shared</b> - 通过单飞合并共享结果的调用数</li>
+ * </ul>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class RemoteCallConfig {
+
+    private static final String PREFIX = "app.remote-call";
+
+    private final RemoteCallProperties remoteCallProperties;
+    private final Environment environment;
+
+    /**
+     * 应用远程调用治理配置
+     */
+    @PostConstruct
+    public void applyPolicies() {
+        RemoteCallRegistry.configure(remoteCallProperties.getDefaults(), mergeMethodPolicies());
+        log.info("🌐 远程调用治理配置已加载 | 方法级配置: {}", remoteCallProperties.getMethods().keySet());
+    }
+
+    /**
+     * 方法级策略：先绑定defaults，再在同一对象上绑定方法配置，未填写的字段保留defaults中的值
+     */
+    private Map<String, RemoteCallPolicy> mergeMethodPolicies() {
+        Binder binder = Binder.get(environment);
+        Map<String, RemoteCallPolicy> merged = new HashMap<>();
+        for (String methodName : remoteCallProperties.getMethods().keySet()) {
+            RemoteCallPolicy policy = new RemoteCallPolicy();
+            binder.bind(PREFIX + ".defaults", Bindable.ofInstance(policy));
+            binder.bind(ConfigurationPropertyName.adapt(PREFIX + ".methods." + methodName, '.'), Bindable.ofInstance(policy));
+            merged.put(methodName, policy);
+        }
+        return merged;
+    }
+
+    /**
+     * 远程调用治理指标
+     */
+    @Bean
+    public MeterBinder remoteCallMeterBinder() {
+        return registry -> RemoteCallRegistry.addListener(guard -> bindGuardMetrics(registry, guard));
+    }
+
+    /**
+     * 按方法名注册指标，取值时重新查找治理单元，配置重载后指标不会指向旧对象
+     */
+    private void bindGuardMetrics(MeterRegistry registry, RemoteMethodGuard guard) {
+        String method = guard.getMethodName();
+        RemoteCallProperties.Metrics metrics = remoteCallProperties.getMetrics();
+        guard.bindMetrics(new RemoteCallMetrics(registry, method, metrics.getPercentiles(),
+                Duration.ofSeconds(Math.max(1, metrics.getWindowSeconds()))));
+        Gauge.builder("remote.call.circuit.state", () -> RemoteCallRegistry.guard(method).getCircuitBreaker().getState().ordinal())
+                .tag("method", method)
+                .description("熔断器状态：0关闭 / 1打开 / 2半开")
+                .register(registry);
+        Gauge.builder("remote.call.circuit.failure.rate", () -> RemoteCallRegistry.guard(method).getCircuitBreaker().getFailureRate())
+                .tag("method", method)
+                .baseUnit("percent")
+                .register(registry);
+        FunctionCounter.builder("remote.call.circuit.rejected", method,
+                        name -> RemoteCallRegistry.guard(name).getCircuitBreaker().getRejectedCount())
+                .tag("method", method)
+                .register(registry);
+        Gauge.builder("remote.call.bulkhead.in.flight", () -> RemoteCallRegistry.guard(method).getBulkhead().getInFlight())
+                .tag("method", method)
+                .register(registry);
+        FunctionCounter.builder("remote.call.bulkhead.rejected", method,
+                        name -> RemoteCallRegistry.guard(name).getBulkhead().getRejectedCount())
+                .tag("method", method)
+                .register(registry);
+        Gauge.builder("remote.call.concurrency.limit", () -> RemoteCallRegistry.guard(method).getConcurrencyLimiter().getLimit())
+                .tag("method", method)
+                .register(registry);
+        FunctionCounter.builder("remote.call.concurrency.rejected", method,
+                        name -> RemoteCallRegistry.guard(name).getConcurrencyLimiter().getRejectedCount())
+                .tag("method", method)
+                .register(registry);
+        FunctionCounter.builder("remote.call.retry.budget.exhausted", method,
+                        name -> RemoteCallRegistry.guard(name).getRetryBudget().getExhaustedCount())
+                .tag("method", method)
+                .register(registry);
+        Gauge.builder("remote.call.hedge.delay", () -> RemoteCallRegistry.guard(method).hedgeDelayMillis())
+                .tag("method", method)
+                .baseUnit("milliseconds")
+                .register(registry);
+        FunctionCounter.builder("remote.call.hedge.sent", method,
+                        name -> RemoteCallRegistry.guard(name).getHedgeBudget().getHedgedCount())
+                .tag("method", method)
+                .register(registry);
+        FunctionCounter.builder("remote.call.hedge.won", method,
+                        name -> RemoteCallRegistry.guard(name).getHedgeBudget().getHedgeWonCount())
+                .tag("method", method)
+                .register(registry);
+        FunctionCounter.builder("remote.call.hedge.budget.exhausted", method,
+                        name -> RemoteCallRegistry.guard(name).getHedgeBudget().getExhaustedCount())
+                .tag("method", method)
+                .register(registry);
+        FunctionCounter.builder("remote.call.single.flight.shared", method,
+                        name -> RemoteCallRegistry.guard(name).getSingleFlight().getSharedCount())
+                .tag("method", method)
+                .register(registry);
+    }
+}
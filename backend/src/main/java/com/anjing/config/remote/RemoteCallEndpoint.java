@@ -0,0 +1,163 @@
+package com.anjing.config.remote;
+
+import com.anjing.config.properties.RemoteCallProperties;
+import com.anjing.util.remote.RemoteCallMetrics;
+import com.anjing.util.remote.RemoteCallRegistry;
+import com.anjing.util.remote.RemoteMethodGuard;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🐢 远程依赖耗时端点
+ *
+ * <p>{@code GET /actuator/remotecalls?top=10}：按成功调用的尾部分位数（配置中最高的分位，默认P99）从高到低列出最慢的远程依赖，
+ * 附带调用次数、失败率与熔断、并发限制状态，定位拖慢P99的依赖不需要翻日志</p>
+ *
+ * <p>各字段的统计区间不同，字段名标明了区间：</p>
+ * <ul>
+ *   <li>{@code total*}：启动以来的累计值（次数、失败率、平均耗时）</li>
+ *   <li>{@code percentiles}、{@code maxMillis}：最近{@code app.remote-call.metrics.window-seconds}秒，
+ *       分位数取自{@code app.remote-call.metrics.percentiles}配置的列表</li>
+ *   <li>{@code breaker*}：熔断器滑动窗口（{@code breakerWindowSeconds}秒）内的失败率与状态</li>
+ * </ul>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Component
+@Endpoint(id = "remotecalls")
+@RequiredArgsConstructor
+public class RemoteCallEndpoint {
+
+    private final RemoteCallProperties remoteCallProperties;
+
+    /**
+     * 最慢的远程依赖
+     *
+     * @param top 返回数量，默认取配置的top-n
+     */
+    @ReadOperation
+    public Map<String, Object> slowest(@Nullable Integer top) {
+        List<DependencySummary> summaries = new ArrayList<>();
+        for (RemoteMethodGuard guard : RemoteCallRegistry.guards()) {
+            RemoteCallMetrics metrics = guard.getMetrics();
+            if (metrics != null && metrics.getSuccessTimer().count() + metrics.getFailureTimer().count() > 0) {
+                summaries.add(summarize(guard, metrics));
+            }
+        }
+        int limit = top != null && top > 0 ? top : remoteCallProperties.getMetrics().getTopN();
+        summaries.sort(Comparator.comparingDouble(DependencySummary::getTailMillis)
+                .thenComparingDouble(DependencySummary::getMaxMillis)
+                .reversed());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("windowSeconds", remoteCallProperties.getMetrics().getWindowSeconds());
+        result.put("dependencies", summaries.subList(0, Math.min(limit, summaries.size())));
+        return result;
+    }
+
+    private static DependencySummary summarize(RemoteMethodGuard guard, RemoteCallMetrics metrics) {
+        Timer success = metrics.getSuccessTimer();
+        HistogramSnapshot snapshot = success.takeSnapshot();
+        long successCount = success.count();
+        long failureCount = metrics.getFailureTimer().count();
+
+        DependencySummary summary = new DependencySummary();
+        summary.setMethod(guard.getMethodName());
+        summary.setTotalSuccessCount(successCount);
+        summary.setTotalFailureCount(failureCount);
+        summary.setTotalRetryCount((long) metrics.getRetryCounter().count());
+        summary.setTotalFailureRate(round(100.0 * failureCount / (successCount + failureCount)));
+        summary.setTotalMeanMillis(round(snapshot.mean(TimeUnit.MILLISECONDS)));
+        summary.setMaxMillis(round(snapshot.max(TimeUnit.MILLISECONDS)));
+
+        // 按实际发布的分位数取值，最高的分位作为排序依据
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        double highest = -1;
+        double tailMillis = summary.getMaxMillis();
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            double millis = round(value.value(TimeUnit.MILLISECONDS));
+            percentiles.put(percentileLabel(value.percentile()), millis);
+            if (value.percentile() > highest) {
+                highest = value.percentile();
+                tailMillis = millis;
+            }
+        }
+        summary.setPercentiles(percentiles);
+        summary.setTailMillis(tailMillis);
+
+        summary.setBreakerWindowSeconds(guard.getPolicy().getCircuitBreaker().getSlidingWindowSeconds());
+        summary.setBreakerFailureRate(guard.getCircuitBreaker().getFailureRate());
+        summary.setBreakerState(guard.getCircuitBreaker().getState().name());
+        summary.setConcurrencyLimit(guard.getConcurrencyLimiter().getLimit());
+        summary.setInFlight(guard.getBulkhead().getInFlight());
+        return summary;
+    }
+
+    /**
+     * 分位数标签：0.5 → p50，0.999 → p99.9
+     */
+    private static String percentileLabel(double percentile) {
+        return "p" + BigDecimal.valueOf(percentile * 100).stripTrailingZeros().toPlainString();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    /**
+     * 单个远程依赖的耗时概况
+     */
+    @Data
+    public static class DependencySummary {
+        private String method;
+        /**
+         * 启动以来的累计值
+         */
+        private long totalSuccessCount;
+        private long totalFailureCount;
+        private long totalRetryCount;
+        /**
+         * 启动以来的失败率（百分比）
+         */
+        private double totalFailureRate;
+        private double totalMeanMillis;
+        /**
+         * 统计窗口内成功调用的耗时分位数，键为p50、p95、p99等
+         */
+        private Map<String, Double> percentiles;
+        /**
+         * 统计窗口内成功调用的最大耗时
+         */
+        private double maxMillis;
+        /**
+         * 配置中最高分位的耗时，用于排序
+         */
+        @JsonIgnore
+        private double tailMillis;
+        private int breakerWindowSeconds;
+        /**
+         * 熔断器滑动窗口内的失败率（百分比）
+         */
+        private double breakerFailureRate;
+        private String breakerState;
+        private int concurrencyLimit;
+        private int inFlight;
+    }
+}
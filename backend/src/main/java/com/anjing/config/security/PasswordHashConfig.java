@@ -0,0 +1,79 @@
+package com.anjing.config.security;
+
+import com.anjing.config.properties.PasswordHashProperties;
+import com.anjing.util.PasswordUtils;
+import com.anjing.util.trace.TraceContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 🔐 密码加密配置
+ *
+ * <p>按配置的迭代次数（或开启校准时测量的值）和密码校验专用线程池配置{@link PasswordUtils}</p>
+ *
+ * <p>线程池有界（固定线程数 + 有界队列 + 拒绝策略）：登录高峰时最多占用{@code verify-threads}个CPU核做密码计算，
+ * 超出队列的请求立即失败，而不是堆积在请求线程上</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class PasswordHashConfig {
+
+    private final PasswordHashProperties passwordHashProperties;
+
+    private ThreadPoolExecutor verifyExecutor;
+
+    /**
+     * 确定迭代次数并创建校验线程池
+     */
+    @PostConstruct
+    public void configurePasswordHashing() {
+        int iterations = passwordHashProperties.getIterations();
+        if (passwordHashProperties.isCalibrate()) {
+            iterations = PasswordUtils.calibrate(passwordHashProperties.getTargetMillis(),
+                    passwordHashProperties.getMinIterations(), passwordHashProperties.getMaxIterations());
+            log.warn("🔐 PBKDF2迭代次数校准结果: {}，请写入app.password.iterations并关闭calibrate，避免各实例、每次发布取值不同",
+                    iterations);
+        }
+
+        int threads = passwordHashProperties.getVerifyThreads();
+        if (threads <= 0) {
+            threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        verifyExecutor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, passwordHashProperties.getVerifyQueueCapacity())), r -> {
+            Thread thread = new Thread(r, "password-verify-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        PasswordUtils.configure(iterations, TraceContext.wrap(verifyExecutor));
+
+        long start = System.nanoTime();
+        PasswordUtils.encode("calibration-check");
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("🔐 密码加密配置已加载 | PBKDF2迭代次数: {} | 单次耗时: {}ms | 校验线程: {} | 预计校验吞吐: {}次/秒",
+                iterations, millis, threads, millis > 0 ? threads * 1000L / millis : "-");
+    }
+
+    /**
+     * 停止校验线程池
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (verifyExecutor != null) {
+            verifyExecutor.shutdown();
+        }
+    }
+}
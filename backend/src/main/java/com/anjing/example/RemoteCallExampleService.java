@@ -2,12 +2,19 @@ package com.anjing.example;
 
 import com.anjing.model.request.BaseRequest;
 import com.anjing.model.response.APIResponse;
+import com.anjing.util.BatchingRemoteCaller;
 import com.anjing.util.RemoteCallWrapper;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * 🌐 远程调用包装工具使用示例
  * 
@@ -19,6 +26,7 @@ import org.springframework.stereotype.Service;
  *   <li><b>HTTP接口调用</b> - 第三方API调用示例</li>
  *   <li><b>重试机制</b> - 失败重试的使用示例</li>
  *   <li><b>无参数调用</b> - 配置查询等无参数调用示例</li>
+ *   <li><b>批量合并</b> - 单条请求攒批走批量接口的示例</li>
  * </ul>
  * 
  * @author Backend Template Team
@@ -46,6 +54,27 @@ public class RemoteCallExampleService {
      */
     private final MockConfigService configService = new MockConfigService();
 
+    /**
+     * 执行对冲调用的线程池（实际项目中应使用统一管理的线程池）
+     */
+    private final ExecutorService remoteCallExecutor = Executors.newFixedThreadPool(4, runnable -> {
+        Thread thread = new Thread(runnable, "remote-call-example");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 库存查询的批量合并调用器：并发的单条库存查询攒批后走批量接口
+     */
+    private final BatchingRemoteCaller<StockQueryRequest, StockResponse> stockCaller = new BatchingRemoteCaller<>(
+        "checkStockBatch",
+        reqs -> orderService.checkStockBatch(reqs),
+        50,     // 每批最多50条
+        2000,   // 最多等待2ms
+        true,   // 逐条校验响应
+        remoteCallExecutor
+    );
+
     // ==================== 使用示例方法 ====================
 
     /**
@@ -72,7 +101,7 @@ public class RemoteCallExampleService {
 
     /**
      * 示例2: 指定方法名称的远程调用
-     * 场景：查询用户信息
+     * 场景：查询用户信息（幂等读调用，使用对冲模式压低尾延迟）
      */
     public APIResponse<UserVO> getUserInfoExample() {
         log.info("=== 示例2: 指定方法名称的远程调用 ===");
@@ -80,11 +109,13 @@ public class RemoteCallExampleService {
         UserQueryRequest request = new UserQueryRequest();
         request.setUserId(12345L);
         
-        // 🎯 指定调用名称，便于日志追踪
-        UserResponse response = RemoteCallWrapper.call(
+        // 🎯 指定调用名称，便于日志追踪；getUserInfo在配置中开启了对冲
+        UserResponse response = RemoteCallWrapper.callHedged(
             req -> userService.getUserInfo(req), 
             request,
-            "getUserInfo"
+            "getUserInfo",
+            true,
+            remoteCallExecutor
         );
         
         return APIResponse.success(convertToVO(response), "用户信息查询成功");
@@ -117,13 +148,13 @@ public class RemoteCallExampleService {
 
     /**
      * 示例4: 无参数远程调用
-     * 场景：获取系统配置
+     * 场景：获取系统配置（热点读，并发的相同调用合并为一次）
      */
     public APIResponse<ConfigVO> getSystemConfigExample() {
         log.info("=== 示例4: 无参数远程调用 ===");
         
-        // 📞 无参数调用
-        ConfigResponse response = RemoteCallWrapper.callNoParam(
+        // 📞 无参数调用；单飞模式下并发请求共享一次下游调用，结果复用1秒（见配置）
+        ConfigResponse response = RemoteCallWrapper.callNoParamSingleFlight(
             () -> configService.getSystemConfig(),
             "getSystemConfig"
         );
@@ -224,6 +255,32 @@ public class RemoteCallExampleService {
         }
     }
 
+    /**
+     * 示例7: 批量合并调用
+     * 场景：购物车结算前逐行检查库存（40行商品只需一次批量调用）
+     */
+    public APIResponse<Integer> checkCartStockExample() {
+        log.info("=== 示例7: 批量合并调用 ===");
+        
+        List<CompletableFuture<StockResponse>> futures = new ArrayList<>();
+        for (long line = 1; line <= 40; line++) {
+            StockQueryRequest request = new StockQueryRequest();
+            request.setProductId(67890L + line);
+            request.setQuantity(1);
+            
+            // 📦 每行单独提交，由stockCaller合并成批量调用
+            futures.add(stockCaller.submit(request));
+        }
+        
+        int available = 0;
+        for (CompletableFuture<StockResponse> future : futures) {
+            if (future.join().getAvailableStock() > 0) {
+                available++;
+            }
+        }
+        return APIResponse.success(available, "购物车库存检查完成");
+    }
+
     // ==================== 模拟的远程服务实现 ====================
     
     /**
@@ -272,6 +329,22 @@ public class RemoteCallExampleService {
             response.setPrice(99.99);
             return response;
         }
+        
+        public List<StockResponse> checkStockBatch(List<StockQueryRequest> requests) {
+            simulateDelay(60);
+            
+            List<StockResponse> responses = new ArrayList<>(requests.size());
+            for (StockQueryRequest request : requests) {
+                StockResponse response = new StockResponse();
+                response.setSuccess(true);
+                response.setResponseCode("SUCCESS");
+                response.setResponseMessage("库存充足");
+                response.setAvailableStock(100);
+                response.setPrice(99.99);
+                responses.add(response);
+            }
+            return responses;
+        }
     }
     
     /**
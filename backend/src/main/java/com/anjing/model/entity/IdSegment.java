@@ -0,0 +1,45 @@
+package com.anjing.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 号段表
+ *
+ * <p>每个业务标识一行，{@code maxId}为已分配出去的最大ID；
+ * 每次取号段执行{@code max_id = max_id + step}，得到的{@code (maxId - step, maxId]}由一个应用实例在内存中发放</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "id_segment")
+@Getter
+@Setter
+@NoArgsConstructor
+public class IdSegment {
+
+    /**
+     * 业务标识，如order_no
+     */
+    @Id
+    @Column(name = "biz_tag", length = 64)
+    private String bizTag;
+
+    /**
+     * 已分配的最大ID
+     */
+    @Column(name = "max_id", nullable = false)
+    private Long maxId;
+
+    /**
+     * 每次分配的号段长度
+     */
+    @Column(name = "step", nullable = false)
+    private Integer step;
+}
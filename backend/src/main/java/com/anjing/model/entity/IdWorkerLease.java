@@ -0,0 +1,45 @@
+package com.anjing.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 雪花算法节点ID租约
+ *
+ * <p>每行对应一个节点ID（数据中心ID &lt;&lt; 5 | 工作节点ID），{@code expiresAt}之前归{@code owner}所有；
+ * 应用实例定期续约，过期的行可以被其他实例抢占</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "id_worker_lease")
+@Getter
+@Setter
+@NoArgsConstructor
+public class IdWorkerLease {
+
+    /**
+     * 节点ID：数据中心ID &lt;&lt; 5 | 工作节点ID
+     */
+    @Id
+    @Column(name = "node_id")
+    private Integer nodeId;
+
+    /**
+     * 持有者（应用实例标识），空字符串表示未被占用
+     */
+    @Column(name = "owner", nullable = false, length = 128)
+    private String owner;
+
+    /**
+     * 租约到期时间（毫秒时间戳）
+     */
+    @Column(name = "expires_at", nullable = false)
+    private Long expiresAt;
+}
@@ -25,6 +25,7 @@ public enum CommonErrorCode implements ErrorCode {
     DATABASE_ERROR("1002", "数据库异常"),
     NETWORK_ERROR("1003", "网络异常"),
     SERVICE_UNAVAILABLE("1004", "服务不可用"),
+    ID_GENERATE_FAILED("1005", "ID生成失败"),
 
     // 参数错误 3xxx
     PARAM_INVALID("3000", "参数无效"),
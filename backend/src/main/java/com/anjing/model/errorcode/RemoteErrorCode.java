@@ -113,7 +113,12 @@ public enum RemoteErrorCode implements ErrorCode {
     /**
      * 远程调用熔断器开启
      */
-    REMOTE_CALL_CIRCUIT_BREAKER_OPEN("1806", "远程调用熔断器开启，服务暂时不可用");
+    REMOTE_CALL_CIRCUIT_BREAKER_OPEN("1806", "远程调用熔断器开启，服务暂时不可用"),
+    
+    /**
+     * 远程调用超过自适应并发限制
+     */
+    REMOTE_CALL_CONCURRENCY_LIMITED("1807", "远程调用并发超过自适应限制，请求被拒绝");
 
     private final String code;
     private final String message;
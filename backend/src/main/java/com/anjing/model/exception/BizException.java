@@ -2,6 +2,9 @@ package com.anjing.model.exception;
 
 import com.anjing.model.errorcode.ErrorCode;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * 业务异常
  * 
@@ -14,39 +17,98 @@ import com.anjing.model.errorcode.ErrorCode;
  *   <li>🎨 枚举管理 - 通过枚举约束所有可能的错误码</li>
  * </ul>
  * 
+ * <h3>⚡ 无堆栈：</h3>
+ * <p>业务拒绝（参数不合法、状态不允许等）是预期内的分支，错误码和消息已足够定位，
+ * 因此不采集堆栈（{@link #fillInStackTrace()}直接返回），抛出开销接近普通返回；
+ * 包装的cause保留自己的完整堆栈。确实需要堆栈时使用带{@code writableStackTrace}参数的构造函数</p>
+ * <pre>
+ * // 固定消息的拒绝可以复用每个ErrorCode预先创建的实例，不再分配对象
+ * throw BizException.of(CommonErrorCode.PARAM_INVALID);
+ * </pre>
+ * 
  * @author Backend Template Team
  * @version 1.0
  */
 public class BizException extends RuntimeException
 {
 
+    /**
+     * 每个ErrorCode预先创建的共享实例
+     */
+    private static final Map<ErrorCode, BizException> SHARED = new ConcurrentHashMap<>();
+
     private ErrorCode errorCode;
 
+    /**
+     * 是否为{@link #of(ErrorCode)}返回的共享实例（错误码不可修改）
+     */
+    private final boolean shared;
+
     public BizException(ErrorCode errorCode)
     {
         super(errorCode.getMessage());
         this.errorCode = errorCode;
+        this.shared = false;
     }
 
     public BizException(String message, ErrorCode errorCode)
     {
         super(message);
         this.errorCode = errorCode;
+        this.shared = false;
     }
 
     public BizException(String message, Throwable cause, ErrorCode errorCode) {
         super(message, cause);
         this.errorCode = errorCode;
+        this.shared = false;
     }
 
     public BizException(Throwable cause, ErrorCode errorCode) {
         super(cause);
         this.errorCode = errorCode;
+        this.shared = false;
     }
 
+    /**
+     * @param writableStackTrace 为true时采集堆栈
+     */
     public BizException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace, ErrorCode errorCode) {
         super(message, cause, enableSuppression, writableStackTrace);
         this.errorCode = errorCode;
+        this.shared = false;
+        if (writableStackTrace) {
+            super.fillInStackTrace();
+        }
+    }
+
+    /**
+     * 共享实例：不采集堆栈、不记录suppressed异常；不使用子类，日志中的异常类型仍是{@code BizException}
+     */
+    private BizException(ErrorCode errorCode, boolean shared) {
+        super(errorCode.getMessage(), null, false, false);
+        this.errorCode = errorCode;
+        this.shared = shared;
+    }
+
+    /**
+     * 获取ErrorCode对应的共享实例（消息为ErrorCode的默认消息）
+     * 
+     * <p>共享实例不可修改错误码、不记录suppressed异常，适合只靠错误码区分的拒绝分支</p>
+     * 
+     * @param errorCode 错误码
+     * @return 共享的异常实例
+     */
+    public static BizException of(ErrorCode errorCode) {
+        return SHARED.computeIfAbsent(errorCode, code -> new BizException(code, true));
+    }
+
+    /**
+     * 不采集堆栈
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
     }
 
     public ErrorCode getErrorCode() {
@@ -54,6 +116,9 @@ public class BizException extends RuntimeException
     }
 
     public void setErrorCode(ErrorCode errorCode) {
+        if (shared) {
+            throw new UnsupportedOperationException("共享异常实例不可修改错误码");
+        }
         this.errorCode = errorCode;
     }
-}
\ No newline at end of file
+}
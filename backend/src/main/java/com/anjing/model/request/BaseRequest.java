@@ -28,4 +28,9 @@ public class BaseRequest implements Serializable
     
     // 这里只放真正通用的字段
     // 如需要添加通用字段（如操作人ID、请求时间等），在这里添加
+
+    /**
+     * 请求ID，调用下游时由RemoteCallWrapper自动填入当前请求ID（见TraceContext）
+     */
+    private String requestId;
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.anjing.repository;
+
+import com.anjing.model.entity.IdSegment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 号段表Repository
+ *
+ * <p>调用方在同一个事务中先{@link #increaseMaxId}再{@link #findById}，行锁保证各实例拿到的号段互不重叠</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public interface IdSegmentRepository extends JpaRepository<IdSegment, String> {
+
+    /**
+     * 业务标识不存在时插入一行（已存在时不做任何修改）
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO id_segment (biz_tag, max_id, step) VALUES (:bizTag, 0, :step)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("bizTag") String bizTag, @Param("step") int step);
+
+    /**
+     * 分配下一个号段：{@code max_id = max_id + step}
+     *
+     * @return 更新行数，0表示业务标识不存在
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE IdSegment s SET s.maxId = s.maxId + s.step WHERE s.bizTag = :bizTag")
+    int increaseMaxId(@Param("bizTag") String bizTag);
+}
@@ -0,0 +1,48 @@
+package com.anjing.repository;
+
+import com.anjing.model.entity.IdWorkerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 雪花算法节点ID租约Repository
+ *
+ * <p>占用、续约、释放都是一条带条件的UPDATE，由数据库行锁保证同一节点ID同时只有一个持有者</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public interface IdWorkerLeaseRepository extends JpaRepository<IdWorkerLease, Integer> {
+
+    /**
+     * 节点ID对应的行不存在时插入一行空闲租约（已存在时不做任何修改）
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT IGNORE INTO id_worker_lease (node_id, owner, expires_at) VALUES (:nodeId, '', 0)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("nodeId") int nodeId);
+
+    /**
+     * 占用或续约：节点ID空闲、已过期或本来就归{@code owner}所有时写入新的到期时间
+     *
+     * @return 更新行数，1表示成功
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE IdWorkerLease l SET l.owner = :owner, l.expiresAt = :expiresAt "
+            + "WHERE l.nodeId = :nodeId AND (l.owner = :owner OR l.expiresAt < :now)")
+    int claim(@Param("nodeId") int nodeId, @Param("owner") String owner,
+              @Param("expiresAt") long expiresAt, @Param("now") long now);
+
+    /**
+     * 释放租约（只释放自己持有的）
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE IdWorkerLease l SET l.owner = '', l.expiresAt = 0 WHERE l.nodeId = :nodeId AND l.owner = :owner")
+    int release(@Param("nodeId") int nodeId, @Param("owner") String owner);
+}
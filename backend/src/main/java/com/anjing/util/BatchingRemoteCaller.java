@@ -0,0 +1,241 @@
+package com.anjing.util;
+
+import com.anjing.model.errorcode.RemoteErrorCode;
+import com.anjing.model.exception.SystemException;
+import com.anjing.util.deadline.Deadline;
+import com.anjing.util.deadline.DeadlineContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 📦 批量合并远程调用
+ *
+ * <p>把并发到达的单个请求攒成一批，通过下游的批量接口一次调用完成，再把结果按位置分发回每个调用方。
+ * 攒批在达到{@code maxBatchSize}个请求或第一个请求等待了{@code maxDelayMicros}微秒时结束，以先到者为准</p>
+ *
+ * <h3>📋 使用示例：</h3>
+ * <pre>
+ * // 创建一次，作为字段长期持有
+ * BatchingRemoteCaller&lt;StockQueryRequest, StockResponse&gt; stockCaller = new BatchingRemoteCaller&lt;&gt;(
+ *     "checkStockBatch",
+ *     reqs -> stockService.checkStockBatch(reqs),  // 返回值与请求按位置一一对应
+ *     50,      // 每批最多50个
+ *     2000,    // 最多等待2ms
+ *     true,    // 逐条校验响应
+ *     executor
+ * );
+ *
+ * StockResponse response = stockCaller.call(stockRequest);
+ * </pre>
+ *
+ * <h3>⚙️ 执行规则：</h3>
+ * <ul>
+ *   <li>每一批通过{@link RemoteCallWrapper#call(Function, Object, String, boolean)}执行，
+ *       日志、熔断、舱壁等治理按批生效，methodName对应的是批量接口</li>
+ *   <li>批量函数失败时本批所有请求以同一个异常结束；返回数量与请求数量不一致时本批全部失败</li>
+ *   <li>checkResponse为true时逐条校验结果，只有校验失败的请求以异常结束</li>
+ * </ul>
+ *
+ * @param <T> 单个请求类型
+ * @param <R> 单个响应类型
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Slf4j
+public class BatchingRemoteCaller<T, R> {
+
+    private final String methodName;
+    private final Function<List<T>, List<R>> batchFunction;
+    private final int maxBatchSize;
+    private final long maxDelayMicros;
+    private final boolean checkResponse;
+    private final Executor executor;
+
+    /**
+     * 正在攒的批次，访问时持有this锁
+     */
+    private Batch<T, R> current;
+
+    /**
+     * @param methodName     批量接口名称
+     * @param batchFunction  批量调用函数，返回值与请求按位置一一对应
+     * @param maxBatchSize   每批最大请求数
+     * @param maxDelayMicros 第一个请求的最长等待时间（微秒）
+     * @param checkResponse  是否逐条校验响应
+     * @param executor       执行批量调用的线程池
+     */
+    public BatchingRemoteCaller(String methodName, Function<List<T>, List<R>> batchFunction, int maxBatchSize,
+                                long maxDelayMicros, boolean checkResponse, Executor executor) {
+        if (maxBatchSize <= 0 || maxDelayMicros < 0) {
+            throw new IllegalArgumentException("批量参数不合法: maxBatchSize=" + maxBatchSize + ", maxDelayMicros=" + maxDelayMicros);
+        }
+        this.methodName = methodName;
+        this.batchFunction = batchFunction;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayMicros = maxDelayMicros;
+        this.checkResponse = checkResponse;
+        this.executor = executor;
+    }
+
+    /**
+     * 🚀 提交单个请求，等待所在批次完成；存在请求级截止时间时最多等到截止时间
+     *
+     * @param request 请求参数
+     * @return 响应结果
+     */
+    public R call(T request) {
+        Deadline deadline = DeadlineContext.current();
+        try {
+            CompletableFuture<R> future = submit(request);
+            return deadline != null ? future.get(deadline.remainingNanos(), TimeUnit.NANOSECONDS) : future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SystemException("远程调用被中断", RemoteErrorCode.REMOTE_CALL_FAILED);
+        } catch (TimeoutException e) {
+            throw new SystemException("请求已超过截止时间，放弃等待批量调用: " + methodName, RemoteErrorCode.REMOTE_CALL_TIMEOUT);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SystemException) {
+                throw (SystemException) cause;
+            }
+            throw new SystemException("远程调用失败: " + cause.getMessage(), cause, RemoteErrorCode.REMOTE_CALL_FAILED);
+        }
+    }
+
+    /**
+     * ⚡ 提交单个请求
+     *
+     * @param request 请求参数
+     * @return 响应结果的future
+     */
+    public CompletableFuture<R> submit(T request) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        Batch<T, R> full = null;
+        Batch<T, R> started = null;
+        synchronized (this) {
+            if (current == null) {
+                current = new Batch<>(maxBatchSize);
+                started = current;
+            }
+            current.add(request, future);
+            if (current.size() >= maxBatchSize) {
+                full = current;
+                current = null;
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        } else if (started != null) {
+            scheduleFlush(started);
+        }
+        return future;
+    }
+
+    /**
+     * 🚚 立即发出正在攒的批次
+     */
+    public void flush() {
+        Batch<T, R> batch;
+        synchronized (this) {
+            batch = current;
+            current = null;
+        }
+        if (batch != null) {
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * 到期后在JDK的延迟线程上发出批次，交给executor时经过{@link #dispatch}，线程池拒绝时批次失败而不是一直等待
+     */
+    private void scheduleFlush(Batch<T, R> batch) {
+        CompletableFuture.delayedExecutor(maxDelayMicros, TimeUnit.MICROSECONDS).execute(() -> flush(batch));
+    }
+
+    /**
+     * 批次仍在攒时发出；已因数量达到上限发出的批次不再处理
+     */
+    private void flush(Batch<T, R> batch) {
+        synchronized (this) {
+            if (current != batch) {
+                return;
+            }
+            current = null;
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(Batch<T, R> batch) {
+        try {
+            executor.execute(() -> execute(batch));
+        } catch (RejectedExecutionException e) {
+            batch.fail(new SystemException("远程调用线程池已满: " + methodName, e, RemoteErrorCode.REMOTE_SERVICE_UNAVAILABLE));
+        }
+    }
+
+    private void execute(Batch<T, R> batch) {
+        List<R> responses;
+        try {
+            responses = RemoteCallWrapper.call(batchFunction, batch.requests, methodName, false);
+        } catch (Throwable t) {
+            batch.fail(t);
+            return;
+        }
+        if (responses == null || responses.size() != batch.size()) {
+            batch.fail(new SystemException(String.format("批量调用返回数量不匹配: %s, 请求: %d, 响应: %s",
+                    methodName, batch.size(), responses == null ? "null" : String.valueOf(responses.size())),
+                    RemoteErrorCode.REMOTE_RESPONSE_FORMAT_ERROR));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            R response = responses.get(i);
+            CompletableFuture<R> future = batch.futures.get(i);
+            try {
+                if (checkResponse) {
+                    RemoteCallWrapper.validateResponse(response, methodName);
+                }
+                future.complete(response);
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        }
+        log.debug("📦 [RemoteCall] 批量调用完成: {} | 合并请求数: {}", methodName, batch.size());
+    }
+
+    /**
+     * 一个批次的请求与对应的future
+     */
+    private static final class Batch<T, R> {
+        private final List<T> requests;
+        private final List<CompletableFuture<R>> futures;
+
+        private Batch(int capacity) {
+            this.requests = new ArrayList<>(capacity);
+            this.futures = new ArrayList<>(capacity);
+        }
+
+        private void add(T request, CompletableFuture<R> future) {
+            requests.add(request);
+            futures.add(future);
+        }
+
+        private int size() {
+            return requests.size();
+        }
+
+        private void fail(Throwable t) {
+            for (CompletableFuture<R> future : futures) {
+                future.completeExceptionally(t);
+            }
+        }
+    }
+}
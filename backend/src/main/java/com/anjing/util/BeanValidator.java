@@ -97,6 +97,19 @@ public class BeanValidator {
             .buildValidatorFactory()
             .getValidator();
 
+    /**
+     * 类型是否声明了任何约束（含属性约束和级联校验），按类缓存
+     */
+    private static final ClassValue<Boolean> BEAN_CONSTRAINED = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            if (type.isPrimitive() || type.isArray() || type.isEnum() || type.getName().startsWith("java.")) {
+                return false;
+            }
+            return FAST_VALIDATOR.getConstraintsForClass(type).isBeanConstrained();
+        }
+    };
+
     /**
      * 工具类构造函数私有化
      */
@@ -135,6 +148,19 @@ public class BeanValidator {
         }
     }
 
+    /**
+     * 🧭 判断类型是否需要校验
+     * 
+     * <p>类型本身、属性上没有任何约束且没有级联校验（{@code @Valid}）时返回false，
+     * 对这类对象调用{@link #validateObject}不会产生任何违规，可以直接跳过。结果按类缓存</p>
+     * 
+     * @param type 待判断的类型
+     * @return 是否声明了约束
+     */
+    public static boolean isConstrained(Class<?> type) {
+        return type != null && BEAN_CONSTRAINED.get(type);
+    }
+
     /**
      * 📋 完整校验对象（收集所有错误）
      * 
@@ -1,18 +1,31 @@
 package com.anjing.util;
 
+import com.anjing.model.errorcode.ErrorCode;
 import com.anjing.model.exception.BizException;
 import com.anjing.model.exception.SystemException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 异常工具类
  * 1、默认参数进行倒打堆栈
  * 2、倒打堆栈
+ * 3、按异常指纹（类型 + 根因的前几个栈帧）限流：同一指纹在一个窗口内只完整输出前几次，
+ *    其余只计数，窗口结束后输出被抑制的次数（见{@code app.exception-log}）；
+ *    不带堆栈的业务/系统异常以请求的接口（方法 + 路由模板）代替栈帧，不同接口的同一错误码分别限流
  */
 @Component
 @Slf4j
@@ -24,6 +37,48 @@ public class ExceptionUtils
         public int i = 0;
     }
 
+    /**
+     * 限流跟踪的指纹数量上限，超出后新指纹共用一个限流器
+     */
+    private static final int MAX_TRACKED_FINGERPRINTS = 1024;
+
+    private static final String OVERFLOW_FINGERPRINT = "overflow";
+
+    /**
+     * 遍历cause链的最大深度（防止循环引用）
+     */
+    private static final int MAX_CAUSE_CHAIN = 32;
+
+    /**
+     * 线程复用的日志缓冲区超过该容量时丢弃，避免个别超长堆栈长期占用内存
+     */
+    private static final int MAX_RETAINED_BUFFER = 16 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(2048));
+
+    private static final Map<String, ReportLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    private static volatile int maxReportsPerWindow = 5;
+
+    private static volatile long windowMillis = TimeUnit.SECONDS.toMillis(60);
+
+    private static volatile int fingerprintFrames = 3;
+
+    /**
+     * 更新限流配置
+     *
+     * @param maxReportsPerWindow 同一指纹每个窗口完整输出的次数，小于等于0表示不限流
+     * @param windowSeconds       窗口长度（秒）
+     * @param fingerprintFrames   参与指纹计算的根因栈帧数
+     */
+    public static void configure(int maxReportsPerWindow, long windowSeconds, int fingerprintFrames)
+    {
+        ExceptionUtils.maxReportsPerWindow = maxReportsPerWindow;
+        ExceptionUtils.windowMillis = TimeUnit.SECONDS.toMillis(Math.max(1, windowSeconds));
+        ExceptionUtils.fingerprintFrames = Math.max(0, fingerprintFrames);
+        LIMITERS.clear();
+    }
+
     /**
      * 打印详细异常信息
      * 
@@ -38,34 +93,343 @@ public class ExceptionUtils
             return;
         }
         
+        if (!log.isErrorEnabled())
+        {
+            return;
+        }
+
+        StringBuilder sb = acquireBuffer();
         try
         {
-            StringBuilder sb = new StringBuilder();
-            
+            String fingerprint = fingerprint(t, request);
+            long suppressed = limiterOf(fingerprint, t, request).tryAcquire();
+            if (suppressed < 0)
+            {
+                return;
+            }
+
+            sb.append("\n==================== ENHANCED EXCEPTION INFO BEGIN ====================");
+
             // === 异常概要信息 ===
-            buildExceptionSummary(sb, t, request);
+            buildExceptionSummary(sb, t, request, fingerprint, suppressed);
             
             // === 异常堆栈信息 ===
             sb.append("\n📋 STACK TRACE DETAILS:\n");
             ForwardCounter counter = new ForwardCounter();
             recursiveReversePrintStackCause(t, 5, counter, 5, sb);
             
-            // === 统一输出 ===
-            log.error("\n==================== ENHANCED EXCEPTION INFO BEGIN ====================");
+            // === 统一输出（一次日志调用） ===
+            sb.append("\n==================== ENHANCED EXCEPTION INFO END ====================\n");
             log.error(sb.toString());
-            log.error("==================== ENHANCED EXCEPTION INFO END ====================\n");
             
         } catch (Exception e) {
             // 确保异常处理本身不会抛出异常
             log.error("打印异常信息时发生错误，回退到基础异常处理: {}", e.getMessage());
             recursiveReversePrintStackCauseCommon(t);
+        } finally {
+            releaseBuffer(sb);
         }
     }
     
+    /**
+     * 是否可以只输出一行日志
+     * 
+     * <p>不带cause的业务/系统异常是预期内的拒绝，没有堆栈可打印，错误码和消息足以定位；
+     * 包装了底层异常时需要打印cause的完整堆栈</p>
+     * 
+     * @param t 异常对象
+     * @return 是否适合紧凑输出
+     */
+    public static boolean isCompact(Throwable t)
+    {
+        return (t instanceof BizException || t instanceof SystemException) && t.getCause() == null;
+    }
+
+    /**
+     * 以一行日志输出业务/系统异常
+     * 
+     * <p>业务异常输出WARN，系统异常输出ERROR；有cause时附带cause的类型和消息</p>
+     * 
+     * @param t 异常对象
+     * @param request HTTP请求对象（可为null）
+     */
+    public static void printCompact(Throwable t, HttpServletRequest request)
+    {
+        boolean biz = t instanceof BizException;
+        if (biz ? !log.isWarnEnabled() : !log.isErrorEnabled())
+        {
+            return;
+        }
+        long suppressed = limiterOf(fingerprint(t, request), t, request).tryAcquire();
+        if (suppressed < 0)
+        {
+            return;
+        }
+        ErrorCode errorCode = errorCodeOf(t);
+        String method = request != null ? request.getMethod() : "-";
+        String uri = request != null ? request.getRequestURI() : "-";
+        String code = errorCode != null ? errorCode.getCode() : "N/A";
+        Throwable cause = t.getCause();
+        String causeInfo = cause != null ? cause.getClass().getSimpleName() + ": " + cause.getMessage() : "-";
+        if (biz)
+        {
+            log.warn("⚠️ [BizException] {} {} | 错误码: {} | 消息: {} | cause: {} | 已抑制: {}",
+                    method, uri, code, t.getMessage(), causeInfo, suppressed);
+        }
+        else
+        {
+            log.error("🚨 [{}] {} {} | 错误码: {} | 消息: {} | cause: {} | 已抑制: {}",
+                    t.getClass().getSimpleName(), method, uri, code, t.getMessage(), causeInfo, suppressed);
+        }
+    }
+
+    /**
+     * 计算异常指纹：异常类型、错误码、根因类型以及根因的前几个栈帧
+     *
+     * <p>同一位置抛出的同类异常得到相同的指纹，消息内容不参与计算</p>
+     *
+     * @param t 异常对象
+     * @return 16位十六进制指纹
+     */
+    public static String fingerprint(Throwable t)
+    {
+        return fingerprint(t, null);
+    }
+
+    /**
+     * 计算异常指纹，根因没有堆栈时以请求的接口代替栈帧
+     *
+     * @param t 异常对象
+     * @param request HTTP请求对象（可为null）
+     * @return 16位十六进制指纹
+     */
+    public static String fingerprint(Throwable t, HttpServletRequest request)
+    {
+        if (t == null)
+        {
+            return "0000000000000000";
+        }
+        long hash = 0xcbf29ce484222325L;
+        hash = hash(hash, t.getClass().getName());
+        ErrorCode errorCode = errorCodeOf(t);
+        if (errorCode != null)
+        {
+            hash = hash(hash, errorCode.getCode());
+        }
+        Throwable root = rootCause(t);
+        if (root != t)
+        {
+            hash = hash(hash, root.getClass().getName());
+        }
+        StackTraceElement[] frames = root.getStackTrace();
+        if (frames.length == 0)
+        {
+            hash = hash(hash, endpointOf(request));
+        }
+        int frameCount = Math.min(fingerprintFrames, frames.length);
+        for (int i = 0; i < frameCount; i++)
+        {
+            hash = hash(hash, frames[i].getClassName());
+            hash = hash(hash, frames[i].getMethodName());
+            hash = (hash ^ frames[i].getLineNumber()) * 0x100000001b3L;
+        }
+        String hex = Long.toHexString(hash);
+        return hex.length() == 16 ? hex : "0000000000000000".substring(hex.length()) + hex;
+    }
+
+    /**
+     * FNV-1a累加字符串
+     */
+    private static long hash(long hash, String value)
+    {
+        if (value == null)
+        {
+            return hash;
+        }
+        for (int i = 0; i < value.length(); i++)
+        {
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        return (hash ^ '|') * 0x100000001b3L;
+    }
+
+    /**
+     * 最底层的cause
+     */
+    private static Throwable rootCause(Throwable t)
+    {
+        Throwable root = t;
+        for (int depth = 0; depth < MAX_CAUSE_CHAIN && root.getCause() != null && root.getCause() != root; depth++)
+        {
+            root = root.getCause();
+        }
+        return root;
+    }
+
+    private static ErrorCode errorCodeOf(Throwable t)
+    {
+        if (t instanceof BizException)
+        {
+            return ((BizException) t).getErrorCode();
+        }
+        return t instanceof SystemException ? ((SystemException) t).getErrorCode() : null;
+    }
+
+    /**
+     * 请求的接口：HTTP方法 + 路由模板（如{@code GET /api/users/{id}}），没有路由模板时使用请求路径
+     */
+    private static String endpointOf(HttpServletRequest request)
+    {
+        if (request == null)
+        {
+            return null;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String path = pattern != null ? pattern.toString() : request.getRequestURI();
+        return request.getMethod() + " " + path;
+    }
+
+    private static ReportLimiter limiterOf(String fingerprint, Throwable t, HttpServletRequest request)
+    {
+        ReportLimiter limiter = LIMITERS.get(fingerprint);
+        if (limiter != null)
+        {
+            return limiter;
+        }
+        if (LIMITERS.size() >= MAX_TRACKED_FINGERPRINTS)
+        {
+            return LIMITERS.computeIfAbsent(OVERFLOW_FINGERPRINT, k -> new ReportLimiter("其他异常"));
+        }
+        return LIMITERS.computeIfAbsent(fingerprint, k -> new ReportLimiter(describe(t, request)));
+    }
+
+    /**
+     * 抑制次数日志中的异常描述：类型、错误码和接口
+     */
+    private static String describe(Throwable t, HttpServletRequest request)
+    {
+        ErrorCode errorCode = errorCodeOf(t);
+        String endpoint = endpointOf(request);
+        return t.getClass().getSimpleName()
+                + (errorCode != null ? " " + errorCode.getCode() : "")
+                + (endpoint != null ? " @ " + endpoint : "");
+    }
+
+    /**
+     * 输出已结束窗口内被抑制的次数，并清理一个窗口内没有再出现的指纹
+     *
+     * <p>由{@code ExceptionLogConfig}定时调用，异常停止出现后被抑制的次数也不会丢失</p>
+     */
+    public static void flushSuppressed()
+    {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, ReportLimiter> entry : LIMITERS.entrySet())
+        {
+            ReportLimiter limiter = entry.getValue();
+            long suppressed = limiter.rollOver(now);
+            if (suppressed > 0)
+            {
+                log.warn("🔇 异常日志限流 | 指纹: {} | 异常: {} | 上个窗口另有{}次未输出", entry.getKey(),
+                        limiter.description, suppressed);
+            }
+            if (limiter.isIdle(now))
+            {
+                LIMITERS.remove(entry.getKey(), limiter);
+            }
+        }
+    }
+
+    /**
+     * 取当前线程复用的缓冲区
+     */
+    private static StringBuilder acquireBuffer()
+    {
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        return sb;
+    }
+
+    private static void releaseBuffer(StringBuilder sb)
+    {
+        if (sb.capacity() > MAX_RETAINED_BUFFER)
+        {
+            BUFFER.remove();
+        }
+        else
+        {
+            sb.setLength(0);
+        }
+    }
+
+    /**
+     * 单个异常指纹的输出限流：固定窗口内最多输出{@code maxReportsPerWindow}次，其余计入抑制次数，
+     * 窗口结束时由下一次输出或{@link #flushSuppressed()}带出
+     */
+    private static final class ReportLimiter
+    {
+        private final String description;
+        private final AtomicLong windowStart = new AtomicLong(System.currentTimeMillis());
+        private final AtomicInteger reported = new AtomicInteger();
+        private final AtomicLong suppressed = new AtomicLong();
+        private volatile long lastSeen = System.currentTimeMillis();
+
+        ReportLimiter(String description)
+        {
+            this.description = description;
+        }
+
+        /**
+         * @return 允许输出时返回上个窗口被抑制的次数，不允许时返回-1
+         */
+        long tryAcquire()
+        {
+            int max = maxReportsPerWindow;
+            if (max <= 0)
+            {
+                return 0;
+            }
+            long now = System.currentTimeMillis();
+            lastSeen = now;
+            long previous = Math.max(0, rollOver(now));
+            if (reported.incrementAndGet() <= max)
+            {
+                return previous;
+            }
+            // 并发下本窗口名额已被其他线程用完，上个窗口的次数留给下次输出
+            suppressed.addAndGet(previous + 1);
+            return -1;
+        }
+
+        /**
+         * 窗口已结束时开始新窗口
+         *
+         * @return 上个窗口被抑制的次数（并清零），窗口未结束时返回-1
+         */
+        long rollOver(long now)
+        {
+            long start = windowStart.get();
+            if (now - start < windowMillis || !windowStart.compareAndSet(start, now))
+            {
+                return -1;
+            }
+            reported.set(0);
+            return suppressed.getAndSet(0);
+        }
+
+        /**
+         * 一个窗口内没有再出现，且没有未输出的抑制次数
+         */
+        boolean isIdle(long now)
+        {
+            return now - lastSeen >= windowMillis && suppressed.get() == 0;
+        }
+    }
+
     /**
      * 构建异常概要信息
      */
-    private static void buildExceptionSummary(StringBuilder sb, Throwable t, HttpServletRequest request) {
+    private static void buildExceptionSummary(StringBuilder sb, Throwable t, HttpServletRequest request,
+                                              String fingerprint, long suppressed) {
         sb.append("\n🚨 EXCEPTION SUMMARY 🚨\n");
         sb.append("┌─────────────────────────────────────────────────────────────────\n");
         
@@ -83,6 +447,13 @@ public class ExceptionUtils
         
         // 请求信息
         buildRequestInfo(sb, request);
+
+        // 指纹与限流信息
+        sb.append("│ Fingerprint: ").append(fingerprint).append("\n");
+        if (suppressed > 0)
+        {
+            sb.append("│ Suppressed: ").append(suppressed).append(" 次相同异常未输出\n");
+        }
         
         sb.append("└─────────────────────────────────────────────────────────────────\n");
     }
@@ -252,9 +623,8 @@ public class ExceptionUtils
         int causeDepth = 5;     // 递归打印的cause的最大深度
         int stackDepth = 5;     // 每一个异常栈的打印深度
         recursiveReversePrintStackCause(t,causeDepth,counter,stackDepth,sb);
-        log.error("\n---------------------reverse exception stackTrace begin---------------------\n");
-        log.error("\n" +sb.toString());
-        log.error("\n---------------------reverse exception stackTrace end---------------------\n");
+        log.error("\n---------------------reverse exception stackTrace begin---------------------\n\n{}"
+                + "\n---------------------reverse exception stackTrace end---------------------\n", sb);
     }
 
     /**
@@ -271,12 +641,19 @@ public class ExceptionUtils
         {
             return;
         }
-        if (t.getCause() != null)
+        // 先收集cause链再倒序输出，不使用递归；遇到循环引用时停止
+        List<Throwable> chain = new ArrayList<>();
+        Map<Throwable, Boolean> seen = new IdentityHashMap<>();
+        for (Throwable current = t; current != null && chain.size() < MAX_CAUSE_CHAIN && seen.put(current, Boolean.TRUE) == null;
+             current = current.getCause())
         {
-            recursiveReversePrintStackCause(t.getCause(), causeDepth, counter, stackDepth, sb);
+            chain.add(current);
         }
-        if(counter.i++ < causeDepth){
-            doPrintStack(t, stackDepth, sb);
+        for (int i = chain.size() - 1; i >= 0; i--)
+        {
+            if(counter.i++ < causeDepth){
+                doPrintStack(chain.get(i), stackDepth, sb);
+            }
         }
     }
 
@@ -284,7 +661,7 @@ public class ExceptionUtils
     public static void doPrintStack(Throwable t, int stackDepth, StringBuilder sb)
     {
         StackTraceElement[] stackTraceElements = t.getStackTrace();
-        if(sb.lastIndexOf("\t") > -1)
+        if(sb.length() > 0 && sb.charAt(sb.length() - 1) == '\t')
         {
             sb.deleteCharAt(sb.length()-1);
             sb.append("Caused: ");
@@ -296,7 +673,7 @@ public class ExceptionUtils
                 break;
             }
             StackTraceElement element = stackTraceElements[i];
-             sb.append(reduceClassName(element.getClassName()))
+             sb.append(StringUtils.abbreviateClassName(element.getClassName()))
              // sb.append(element.getClassName())
                     .append("[")
                     .append(element.getMethodName())
@@ -307,17 +684,4 @@ public class ExceptionUtils
         }
     }
 
-    // 简化类名以便更好地阅读
-    private static String reduceClassName(String className)
-    {
-        String[] parts = className.split("\\.");
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < parts.length - 1; i++)
-        {
-            sb.append(parts[i].charAt(0)).append(".");
-        }
-        sb.append(parts[parts.length - 1]);
-        return sb.toString();
-    }
-
 }
@@ -1,21 +1,34 @@
 package com.anjing.util;
 
+import com.anjing.model.errorcode.CommonErrorCode;
+import com.anjing.model.exception.SystemException;
+import com.anjing.util.id.SegmentIdGenerator;
+import com.anjing.util.id.SegmentLoader;
+import com.anjing.util.id.SnowflakeIdGenerator;
+import com.anjing.util.id.TimeOrderedIdGenerator;
+import com.anjing.util.id.UuidCodec;
+import com.anjing.util.random.TokenRandom;
 import lombok.extern.slf4j.Slf4j;
 
-import java.security.SecureRandom;
-import java.time.LocalDateTime;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ID生成工具类
  * 
  * 提供多种ID生成策略：
- * 1. 雪花算法ID（分布式唯一）
- * 2. UUID（全局唯一）
+ * 1. 雪花算法ID（分布式唯一，节点ID见{@code app.id-generator.snowflake}）
+ * 2. UUID（全局唯一；v4随机，或按时间有序的UUIDv7/ULID，适合作为数据库主键）
  * 3. 时间戳ID（可读性好）
- * 4. 随机字符串（验证码等）
+ * 4. 号段ID（数据库号段表，稠密递增，订单号等）
+ * 5. 随机字符串（验证码等，每线程DRBG，见{@link TokenRandom}）
  * 
  * @author Backend Template
  * @since 2025-01-20
@@ -24,54 +37,77 @@ import java.util.concurrent.atomic.AtomicLong;
 public class IdUtils {
 
     /**
-     * 雪花算法相关常量
+     * 默认可容忍的时钟回拨（毫秒）
      */
-    private static final long EPOCH = 1640995200000L; // 2022-01-01 00:00:00
-    private static final long WORKER_ID_BITS = 5L;
-    private static final long DATA_CENTER_ID_BITS = 5L;
-    private static final long SEQUENCE_BITS = 12L;
-    
-    private static final long MAX_WORKER_ID = -1L ^ (-1L << WORKER_ID_BITS);
-    private static final long MAX_DATA_CENTER_ID = -1L ^ (-1L << DATA_CENTER_ID_BITS);
-    private static final long SEQUENCE_MASK = -1L ^ (-1L << SEQUENCE_BITS);
-    
-    private static final long WORKER_ID_SHIFT = SEQUENCE_BITS;
-    private static final long DATA_CENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
-    private static final long TIMESTAMP_LEFT_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATA_CENTER_ID_BITS;
+    private static final long DEFAULT_MAX_BACKWARD_MILLIS = 1000L;
 
     /**
-     * 雪花算法实例
+     * 雪花算法实例，启动时由{@code SnowflakeConfig}按配置或租约分配的节点ID替换
      */
-    private static final SnowflakeIdGenerator SNOWFLAKE = new SnowflakeIdGenerator(1, 1);
+    private static volatile SnowflakeIdGenerator snowflake = new SnowflakeIdGenerator(1, 1, DEFAULT_MAX_BACKWARD_MILLIS);
 
     /**
-     * 序列号生成器
+     * UUIDv7/ULID生成器，同一实例内单调递增
      */
-    private static final AtomicLong SEQUENCE_GENERATOR = new AtomicLong(1);
+    private static final TimeOrderedIdGenerator TIME_ORDERED = new TimeOrderedIdGenerator();
 
     /**
-     * 安全随机数生成器
+     * 时间戳ID的状态：秒级时间戳 * 1000 + 秒内序号；序号用完时进位到下一秒
      */
-    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final AtomicLong TIMESTAMP_ID_STATE = new AtomicLong();
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
 
     /**
-     * 字符集定义
+     * 订单号使用的号段业务标识
      */
-    private static final String NUMBERS = "0123456789";
-    private static final String LETTERS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
-    private static final String ALPHANUMERIC = NUMBERS + LETTERS;
+    public static final String ORDER_NO_BIZ_TAG = "order_no";
+
+    /**
+     * 订单号中号段ID的最小位数
+     */
+    private static final int ORDER_NO_SEQUENCE_DIGITS = 10;
+
+    /**
+     * 号段ID生成器，按业务标识缓存
+     */
+    private static final Map<String, SegmentIdGenerator> SEGMENTS = new ConcurrentHashMap<>();
+
+    private static volatile SegmentLoader segmentLoader;
+
+    private static volatile Executor segmentPreloadExecutor;
+
+    private static volatile double segmentPreloadAfterRatio = 0.1;
 
     private IdUtils() {
         // 工具类，禁止实例化
     }
 
+    /**
+     * 替换雪花算法实例（节点ID确定后调用）
+     *
+     * @param generator 雪花算法实例
+     */
+    public static void configureSnowflake(SnowflakeIdGenerator generator) {
+        snowflake = generator;
+    }
+
+    /**
+     * 当前使用的雪花算法实例
+     */
+    public static SnowflakeIdGenerator getSnowflake() {
+        return snowflake;
+    }
+
     /**
      * 生成雪花算法ID
      * 
      * @return 雪花算法ID
      */
     public static Long nextId() {
-        return SNOWFLAKE.nextId();
+        return snowflake.nextId();
     }
 
     /**
@@ -80,37 +116,171 @@ public class IdUtils {
      * @return 雪花算法ID字符串
      */
     public static String nextIdStr() {
-        return String.valueOf(SNOWFLAKE.nextId());
+        return String.valueOf(snowflake.nextId());
+    }
+
+    /**
+     * 批量生成雪花算法ID（批量导入等场景，避免逐行调用{@link #nextId()}和装箱）
+     *
+     * @param n 数量
+     * @return 单调递增的ID数组
+     */
+    public static long[] nextIds(int n) {
+        return snowflake.reserve(n);
+    }
+
+    /**
+     * 批量生成雪花算法ID，填满调用方提供的数组
+     *
+     * @param ids 目标数组，可在分批导入时复用
+     */
+    public static void nextIds(long[] ids) {
+        snowflake.reserve(ids, 0, ids.length);
     }
 
     /**
-     * 生成UUID
+     * 生成UUID（版本4）
      * 
      * @return UUID字符串
      */
     public static String uuid() {
-        return UUID.randomUUID().toString();
+        long[] bits = UuidCodec.randomV4();
+        return UuidCodec.toHex(bits[0], bits[1], true);
     }
 
     /**
      * 生成不带分隔符的UUID
      * 
+     * <p>直接编码为32位十六进制，不再生成带连字符的字符串后替换</p>
+     * 
      * @return 不带分隔符的UUID字符串
      */
     public static String simpleUuid() {
-        return UUID.randomUUID().toString().replace("-", "");
+        long[] bits = UuidCodec.randomV4();
+        return UuidCodec.toHex(bits[0], bits[1], false);
+    }
+
+    /**
+     * 生成22位base62编码的UUID（版本4），适合放在URL和短令牌中
+     * 
+     * @return base62编码的UUID字符串
+     */
+    public static String base62Uuid() {
+        long[] bits = UuidCodec.randomV4();
+        return UuidCodec.toBase62(bits[0], bits[1]);
+    }
+
+    /**
+     * 生成UUIDv7：按时间有序，作为主键时插入总在索引末尾
+     * 
+     * @return UUIDv7
+     */
+    public static UUID uuidV7() {
+        return TIME_ORDERED.nextUuid();
+    }
+
+    /**
+     * 生成UUIDv7字符串（36位，字符串顺序与生成顺序一致）
+     * 
+     * @return UUIDv7字符串
+     */
+    public static String uuidV7Str() {
+        return TIME_ORDERED.nextUuidString();
+    }
+
+    /**
+     * 生成UUIDv7的16字节二进制形式，适合{@code BINARY(16)}列
+     * 
+     * @return 16字节大端二进制
+     */
+    public static byte[] uuidV7Bytes() {
+        return TIME_ORDERED.nextUuidBytes();
+    }
+
+    /**
+     * 生成ULID（26位Crockford base32，按时间有序）
+     * 
+     * @return ULID字符串
+     */
+    public static String ulid() {
+        return TIME_ORDERED.nextUlid();
+    }
+
+    /**
+     * UUIDv7/ULID生成器（供JPA主键生成器等复用）
+     */
+    public static TimeOrderedIdGenerator getTimeOrdered() {
+        return TIME_ORDERED;
     }
 
     /**
      * 生成时间戳ID
      * 格式：yyyyMMddHHmmss + 3位序列号
      * 
+     * <p>同一秒内超过1000个时进位到下一秒（时间部分略超前于实际时间），单实例内不会重复</p>
+     * 
      * @return 时间戳ID
      */
     public static String timestampId() {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        long sequence = SEQUENCE_GENERATOR.getAndIncrement() % 1000;
-        return timestamp + String.format("%03d", sequence);
+        long previous;
+        long next;
+        do {
+            previous = TIMESTAMP_ID_STATE.get();
+            long nowSeconds = System.currentTimeMillis() / 1000;
+            next = nowSeconds > previous / 1000 ? nowSeconds * 1000 : previous + 1;
+        } while (!TIMESTAMP_ID_STATE.compareAndSet(previous, next));
+
+        String timestamp = TIMESTAMP_FORMATTER.format(Instant.ofEpochSecond(next / 1000).atZone(ZoneId.systemDefault()));
+        long sequence = next % 1000;
+        StringBuilder sb = new StringBuilder(timestamp.length() + 3).append(timestamp);
+        if (sequence < 100) {
+            sb.append('0');
+        }
+        if (sequence < 10) {
+            sb.append('0');
+        }
+        return sb.append(sequence).toString();
+    }
+
+    /**
+     * 配置号段ID（启动时由{@code SegmentIdConfig}调用）
+     *
+     * @param loader            号段加载器
+     * @param preloadExecutor   预取下一个号段使用的线程池
+     * @param preloadAfterRatio 当前号段用掉该比例后开始预取
+     */
+    public static void configureSegments(SegmentLoader loader, Executor preloadExecutor, double preloadAfterRatio) {
+        segmentLoader = loader;
+        segmentPreloadExecutor = preloadExecutor;
+        segmentPreloadAfterRatio = preloadAfterRatio;
+        SEGMENTS.clear();
+    }
+
+    /**
+     * 是否已启用号段ID
+     */
+    public static boolean isSegmentEnabled() {
+        return segmentLoader != null;
+    }
+
+    /**
+     * 获取号段ID：同一业务标识在所有实例间不重复、稠密递增，绝大多数调用不访问数据库
+     *
+     * @param bizTag 业务标识
+     * @return 号段ID
+     * @throws SystemException 未启用号段ID或号段加载失败时
+     */
+    public static long nextSegmentId(String bizTag) {
+        SegmentIdGenerator generator = SEGMENTS.get(bizTag);
+        if (generator == null) {
+            SegmentLoader loader = segmentLoader;
+            if (loader == null) {
+                throw new SystemException("号段ID未启用（app.id-generator.segment.enabled）", CommonErrorCode.ID_GENERATE_FAILED);
+            }
+            generator = SEGMENTS.computeIfAbsent(bizTag,
+                    tag -> new SegmentIdGenerator(tag, loader, segmentPreloadExecutor, segmentPreloadAfterRatio));
+        }
+        return generator.nextId();
     }
 
     /**
@@ -120,7 +290,7 @@ public class IdUtils {
      * @return 随机数字字符串
      */
     public static String randomNumbers(int length) {
-        return randomString(NUMBERS, length);
+        return TokenRandom.randomString(TokenRandom.DIGITS, length);
     }
 
     /**
@@ -130,7 +300,7 @@ public class IdUtils {
      * @return 随机字母字符串
      */
     public static String randomLetters(int length) {
-        return randomString(LETTERS, length);
+        return TokenRandom.randomString(TokenRandom.LETTERS, length);
     }
 
     /**
@@ -140,7 +310,7 @@ public class IdUtils {
      * @return 随机字母数字字符串
      */
     public static String randomAlphanumeric(int length) {
-        return randomString(ALPHANUMERIC, length);
+        return TokenRandom.randomString(TokenRandom.ALPHANUMERIC, length);
     }
 
     /**
@@ -155,87 +325,24 @@ public class IdUtils {
 
     /**
      * 生成订单号
-     * 格式：前缀 + 时间戳 + 随机数
+     * 格式：前缀 + yyyyMMdd + 至少10位号段ID；未启用号段ID时为前缀 + 雪花算法ID
+     * 
+     * <p>号段ID在集群内不重复，不再依赖时间戳加随机数</p>
      * 
      * @param prefix 前缀
      * @return 订单号
      */
     public static String generateOrderNo(String prefix) {
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String random = randomNumbers(4);
-        return prefix + timestamp + random;
-    }
-
-    /**
-     * 生成随机字符串
-     * 
-     * @param charset 字符集
-     * @param length  长度
-     * @return 随机字符串
-     */
-    private static String randomString(String charset, int length) {
-        if (length <= 0) {
-            throw new IllegalArgumentException("长度必须大于0");
-        }
-        
-        StringBuilder sb = new StringBuilder(length);
-        for (int i = 0; i < length; i++) {
-            int index = SECURE_RANDOM.nextInt(charset.length());
-            sb.append(charset.charAt(index));
+        String head = prefix != null ? prefix : "";
+        if (!isSegmentEnabled()) {
+            return head + snowflake.nextId();
         }
-        return sb.toString();
-    }
-
-    /**
-     * 雪花算法ID生成器
-     */
-    private static class SnowflakeIdGenerator {
-        private final long workerId;
-        private final long dataCenterId;
-        private long sequence = 0L;
-        private long lastTimestamp = -1L;
-
-        public SnowflakeIdGenerator(long workerId, long dataCenterId) {
-            if (workerId > MAX_WORKER_ID || workerId < 0) {
-                throw new IllegalArgumentException("工作节点ID超出范围: " + workerId);
-            }
-            if (dataCenterId > MAX_DATA_CENTER_ID || dataCenterId < 0) {
-                throw new IllegalArgumentException("数据中心ID超出范围: " + dataCenterId);
-            }
-            this.workerId = workerId;
-            this.dataCenterId = dataCenterId;
-        }
-
-        public synchronized long nextId() {
-            long timestamp = System.currentTimeMillis();
-
-            if (timestamp < lastTimestamp) {
-                throw new RuntimeException("时钟回拨，拒绝生成ID");
-            }
-
-            if (lastTimestamp == timestamp) {
-                sequence = (sequence + 1) & SEQUENCE_MASK;
-                if (sequence == 0) {
-                    timestamp = tilNextMillis(lastTimestamp);
-                }
-            } else {
-                sequence = 0L;
-            }
-
-            lastTimestamp = timestamp;
-
-            return ((timestamp - EPOCH) << TIMESTAMP_LEFT_SHIFT)
-                    | (dataCenterId << DATA_CENTER_ID_SHIFT)
-                    | (workerId << WORKER_ID_SHIFT)
-                    | sequence;
-        }
-
-        private long tilNextMillis(long lastTimestamp) {
-            long timestamp = System.currentTimeMillis();
-            while (timestamp <= lastTimestamp) {
-                timestamp = System.currentTimeMillis();
-            }
-            return timestamp;
+        String sequence = Long.toString(nextSegmentId(ORDER_NO_BIZ_TAG));
+        StringBuilder sb = new StringBuilder(head.length() + 8 + Math.max(ORDER_NO_SEQUENCE_DIGITS, sequence.length()));
+        sb.append(head).append(DATE_FORMATTER.format(LocalDate.now()));
+        for (int i = sequence.length(); i < ORDER_NO_SEQUENCE_DIGITS; i++) {
+            sb.append('0');
         }
+        return sb.append(sequence).toString();
     }
 }
@@ -7,6 +7,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.Writer;
+
 /**
  * JSON工具类
  * 
@@ -47,6 +50,33 @@ public class JsonUtils {
         }
     }
 
+    /**
+     * 对象转JSON字符串（限制长度，用于日志）
+     * 
+     * <p>边序列化边写入有界缓冲区，达到长度上限后立即中止序列化并追加"..."，
+     * 大对象不会被完整序列化（最多多序列化一个生成器缓冲区，约2000字符）</p>
+     * 
+     * @param obj       对象
+     * @param maxLength 最大字符数
+     * @return JSON字符串，超长时被截断
+     */
+    public static String toJson(Object obj, int maxLength) {
+        if (obj == null) {
+            return null;
+        }
+        
+        BoundedWriter writer = new BoundedWriter(maxLength);
+        try {
+            objectMapper.writeValue(writer, obj);
+        } catch (IOException e) {
+            if (!writer.isTruncated()) {
+                log.error("对象转JSON失败: {}", obj.getClass().getSimpleName(), e);
+                throw new RuntimeException("对象转JSON失败", e);
+            }
+        }
+        return writer.toString();
+    }
+
     /**
      * JSON字符串转对象
      * 
@@ -143,4 +173,75 @@ public class JsonUtils {
         String json = toJson(obj);
         return fromJson(json, clazz);
     }
+
+    /**
+     * 有界字符输出，超过上限时抛出预分配的异常中止序列化
+     */
+    private static final class BoundedWriter extends Writer {
+
+        private static final IOException LIMIT_REACHED = new IOException("已达到长度上限") {
+            @Override
+            public synchronized Throwable fillInStackTrace() {
+                return this;
+            }
+        };
+
+        private final StringBuilder buffer;
+        private final int maxLength;
+        private boolean truncated;
+
+        private BoundedWriter(int maxLength) {
+            this.maxLength = Math.max(0, maxLength);
+            this.buffer = new StringBuilder(Math.min(this.maxLength, 1024));
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            if (truncated) {
+                throw LIMIT_REACHED;
+            }
+            int remaining = maxLength - buffer.length();
+            if (len <= remaining) {
+                buffer.append(cbuf, off, len);
+                return;
+            }
+            buffer.append(cbuf, off, remaining);
+            truncated = true;
+            throw LIMIT_REACHED;
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            if (truncated) {
+                throw LIMIT_REACHED;
+            }
+            int remaining = maxLength - buffer.length();
+            if (len <= remaining) {
+                buffer.append(str, off, off + len);
+                return;
+            }
+            buffer.append(str, off, off + remaining);
+            truncated = true;
+            throw LIMIT_REACHED;
+        }
+
+        @Override
+        public void flush() {
+            // 内存缓冲，无需刷新
+        }
+
+        @Override
+        public void close() {
+            // 内存缓冲，无需关闭
+        }
+
+        private boolean isTruncated() {
+            return truncated;
+        }
+
+        @Override
+        public String toString() {
+            return truncated ? buffer + "..." : buffer.toString();
+        }
+    }
 }
@@ -1,29 +1,128 @@
 package com.anjing.util;
 
+import com.anjing.model.errorcode.CommonErrorCode;
+import com.anjing.model.exception.SystemException;
+import com.anjing.util.random.TokenRandom;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.DigestUtils;
 
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
 import java.nio.charset.StandardCharsets;
-import java.security.SecureRandom;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
 import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * 密码工具类
  * 
+ * 密码使用PBKDF2-HMAC-SHA256加密，格式：{pbkdf2}迭代次数$base64(盐值)$base64(摘要)
+ * 
+ * 1. 迭代次数取{@code app.password.iterations}，可按目标耗时校准后固定到配置中
+ *    不同迭代次数下的耗时与吞吐见测试代码中的{@code PasswordUtilsBenchmark}（JMH）
+ * 2. 兼容旧格式：{salt}加盐MD5、无前缀的MD5；登录校验通过后用{@link #verify(String, String)}返回的新密文回写即可完成迁移
+ * 3. 登录等高并发场景使用{@link #verifyAsync(String, String)}，在有界的专用线程池中计算，
+ *    线程池满时快速失败，不会占满请求线程
+ * 
  * @author Backend Template
  * @since 2025-01-20
  */
 @Slf4j
 public class PasswordUtils {
 
-    private static final String SALT_PREFIX = "{salt}";
+    public static final String PBKDF2_PREFIX = "{pbkdf2}";
+
+    /**
+     * 旧版加盐MD5格式前缀：{salt}base64(盐值):md5(密码+盐值)
+     */
+    private static final String LEGACY_SALT_PREFIX = "{salt}";
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
     private static final int SALT_LENGTH = 16;
-    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final int HASH_BITS = 256;
+
+    /**
+     * 未校准时的默认迭代次数（OWASP对PBKDF2-HMAC-SHA256的建议值）
+     */
+    public static final int DEFAULT_ITERATIONS = 600_000;
+
+    /**
+     * 校准时单次测量使用的迭代次数
+     */
+    private static final int CALIBRATION_PROBE_ITERATIONS = 20_000;
+
+    /**
+     * 存量密文的迭代次数低于当前配置的该比例时才升级，配置小幅调整不会让所有用户登录时都重新加密
+     */
+    private static final double UPGRADE_THRESHOLD = 0.8;
+
+    private static volatile int iterations = DEFAULT_ITERATIONS;
+
+    /**
+     * 异步校验使用的线程池，未配置时在调用线程中校验
+     */
+    private static volatile Executor verifyExecutor;
+
+    /**
+     * 随机密码字符集
+     */
+    private static final char[] PASSWORD_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789!@#$%^&*".toCharArray();
 
     private PasswordUtils() {
         // 工具类，禁止实例化
     }
 
+    /**
+     * 配置加密参数（启动时由{@code PasswordHashConfig}调用）
+     * 
+     * @param iterationCount 新密码使用的迭代次数
+     * @param executor       异步校验线程池
+     */
+    public static void configure(int iterationCount, Executor executor) {
+        if (iterationCount <= 0) {
+            throw new IllegalArgumentException("迭代次数必须大于0");
+        }
+        iterations = iterationCount;
+        verifyExecutor = executor;
+    }
+
+    /**
+     * 当前新密码使用的迭代次数
+     */
+    public static int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * 测量本机PBKDF2速度，计算单次加密耗时约为{@code targetMillis}的迭代次数
+     * 
+     * @param targetMillis  目标耗时（毫秒）
+     * @param minIterations 迭代次数下限
+     * @param maxIterations 迭代次数上限
+     * @return 迭代次数（取整到千）
+     */
+    public static int calibrate(long targetMillis, int minIterations, int maxIterations) {
+        byte[] salt = TokenRandom.nextBytes(SALT_LENGTH);
+        char[] sample = "calibration-sample".toCharArray();
+        // 第一次包含JIT预热，取后几次中最快的
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            long start = System.nanoTime();
+            pbkdf2(sample, salt, CALIBRATION_PROBE_ITERATIONS);
+            long elapsed = System.nanoTime() - start;
+            if (i > 0) {
+                bestNanos = Math.min(bestNanos, elapsed);
+            }
+        }
+        double nanosPerIteration = (double) bestNanos / CALIBRATION_PROBE_ITERATIONS;
+        long target = (long) (targetMillis * 1_000_000L / nanosPerIteration);
+        target = Math.max(minIterations, Math.min(maxIterations, target));
+        return (int) Math.max(1000, target / 1000 * 1000);
+    }
+
     /**
      * 密码加密
      * 
@@ -34,16 +133,11 @@ public class PasswordUtils {
         if (rawPassword == null || rawPassword.isEmpty()) {
             throw new IllegalArgumentException("密码不能为空");
         }
-        
-        // 生成随机盐值
-        String salt = generateSalt();
-        
-        // 加密密码
-        String encodedPassword = encodeWithSalt(rawPassword, salt);
-        
-        // 返回 {salt}base64(salt):md5(password+salt) 格式
-        return SALT_PREFIX + Base64.getEncoder().encodeToString(salt.getBytes(StandardCharsets.UTF_8)) 
-                + ":" + encodedPassword;
+        int iterationCount = iterations;
+        byte[] salt = TokenRandom.nextBytes(SALT_LENGTH);
+        byte[] hash = pbkdf2(rawPassword.toCharArray(), salt, iterationCount);
+        Base64.Encoder encoder = Base64.getEncoder();
+        return PBKDF2_PREFIX + iterationCount + "$" + encoder.encodeToString(salt) + "$" + encoder.encodeToString(hash);
     }
 
     /**
@@ -54,57 +148,128 @@ public class PasswordUtils {
      * @return 是否匹配
      */
     public static boolean matches(String rawPassword, String encodedPassword) {
-        if (rawPassword == null || encodedPassword == null) {
-            return false;
+        return rawPassword != null && encodedPassword != null && matchesEncoded(rawPassword, encodedPassword);
+    }
+
+    /**
+     * 密文是否需要升级（旧格式，或迭代次数低于当前配置的80%）
+     * 
+     * @param encodedPassword 加密后的密码
+     * @return 是否需要升级
+     */
+    public static boolean needsUpgrade(String encodedPassword) {
+        if (encodedPassword == null || !encodedPassword.startsWith(PBKDF2_PREFIX)) {
+            return true;
         }
-        
+        int end = encodedPassword.indexOf('$', PBKDF2_PREFIX.length());
         try {
-            if (!encodedPassword.startsWith(SALT_PREFIX)) {
-                // 兼容旧版本没有盐值的密码
-                return encodedPassword.equals(DigestUtils.md5DigestAsHex(rawPassword.getBytes(StandardCharsets.UTF_8)));
-            }
-            
-            // 解析盐值和密码
-            String content = encodedPassword.substring(SALT_PREFIX.length());
-            String[] parts = content.split(":", 2);
-            if (parts.length != 2) {
-                return false;
-            }
-            
-            String salt = new String(Base64.getDecoder().decode(parts[0]), StandardCharsets.UTF_8);
-            String storedPassword = parts[1];
-            
-            // 用相同的盐值加密输入密码
-            String encodedInputPassword = encodeWithSalt(rawPassword, salt);
-            
-            return storedPassword.equals(encodedInputPassword);
-        } catch (Exception e) {
-            log.error("密码验证失败", e);
-            return false;
+            return end < 0 || Integer.parseInt(encodedPassword.substring(PBKDF2_PREFIX.length(), end))
+                    < iterations * UPGRADE_THRESHOLD;
+        } catch (NumberFormatException e) {
+            return true;
         }
     }
 
     /**
-     * 生成随机盐值
+     * 密码验证，匹配且密文需要升级时附带用当前参数重新加密的密文
      * 
-     * @return 盐值
+     * <p>登录时使用：{@link Verification#getUpgradedPassword()}不为空时回写数据库，
+     * 旧的MD5密文在用户下次登录时透明迁移</p>
+     * 
+     * @param rawPassword     原始密码
+     * @param encodedPassword 加密后的密码
+     * @return 验证结果
      */
-    private static String generateSalt() {
-        byte[] salt = new byte[SALT_LENGTH];
-        SECURE_RANDOM.nextBytes(salt);
-        return Base64.getEncoder().encodeToString(salt);
+    public static Verification verify(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null || !matchesEncoded(rawPassword, encodedPassword)) {
+            return Verification.MISMATCH;
+        }
+        // 只有匹配且需要升级时才重新加密，matches()不承担这部分开销
+        if (!rawPassword.isEmpty() && needsUpgrade(encodedPassword)) {
+            return new Verification(true, encode(rawPassword));
+        }
+        return Verification.MATCHED;
     }
 
     /**
-     * 使用盐值加密密码
+     * 在专用线程池中验证密码
      * 
-     * @param password 密码
-     * @param salt     盐值
-     * @return 加密后的密码
+     * <p>线程池和队列都已满时返回的Future以{@link SystemException}（服务不可用）失败，调用方可提示稍后重试</p>
+     * 
+     * @param rawPassword     原始密码
+     * @param encodedPassword 加密后的密码
+     * @return 验证结果
      */
-    private static String encodeWithSalt(String password, String salt) {
-        String saltedPassword = password + salt;
-        return DigestUtils.md5DigestAsHex(saltedPassword.getBytes(StandardCharsets.UTF_8));
+    public static CompletableFuture<Verification> verifyAsync(String rawPassword, String encodedPassword) {
+        Executor executor = verifyExecutor;
+        if (executor == null) {
+            return CompletableFuture.completedFuture(verify(rawPassword, encodedPassword));
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> verify(rawPassword, encodedPassword), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(
+                    new SystemException("密码校验繁忙，请稍后重试", e, CommonErrorCode.SERVICE_UNAVAILABLE));
+        }
+    }
+
+    /**
+     * 按密文格式校验，不计算升级后的密文
+     */
+    private static boolean matchesEncoded(String rawPassword, String encodedPassword) {
+        try {
+            if (encodedPassword.startsWith(PBKDF2_PREFIX)) {
+                return matchesPbkdf2(rawPassword, encodedPassword);
+            }
+            if (encodedPassword.startsWith(LEGACY_SALT_PREFIX)) {
+                return matchesLegacySalted(rawPassword, encodedPassword);
+            }
+            // 兼容旧版本没有盐值的密码
+            return constantTimeEquals(encodedPassword, md5Hex(rawPassword));
+        } catch (IllegalArgumentException e) {
+            log.warn("密码密文格式错误: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean matchesPbkdf2(String rawPassword, String encodedPassword) {
+        String[] parts = encodedPassword.substring(PBKDF2_PREFIX.length()).split("\\$", 3);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("PBKDF2密文应为 迭代次数$盐值$摘要");
+        }
+        int iterationCount = Integer.parseInt(parts[0]);
+        Base64.Decoder decoder = Base64.getDecoder();
+        byte[] salt = decoder.decode(parts[1]);
+        byte[] expected = decoder.decode(parts[2]);
+        return MessageDigest.isEqual(expected, pbkdf2(rawPassword.toCharArray(), salt, iterationCount));
+    }
+
+    private static boolean matchesLegacySalted(String rawPassword, String encodedPassword) {
+        String[] parts = encodedPassword.substring(LEGACY_SALT_PREFIX.length()).split(":", 2);
+        if (parts.length != 2) {
+            return false;
+        }
+        String salt = new String(Base64.getDecoder().decode(parts[0]), StandardCharsets.UTF_8);
+        return constantTimeEquals(parts[1], md5Hex(rawPassword + salt));
+    }
+
+    private static byte[] pbkdf2(char[] password, byte[] salt, int iterationCount) {
+        PBEKeySpec spec = new PBEKeySpec(password, salt, iterationCount, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new SystemException("密码加密失败", e, CommonErrorCode.SYSTEM_ERROR);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    private static String md5Hex(String value) {
+        return DigestUtils.md5DigestAsHex(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static boolean constantTimeEquals(String a, String b) {
+        return MessageDigest.isEqual(a.getBytes(StandardCharsets.UTF_8), b.getBytes(StandardCharsets.UTF_8));
     }
 
     /**
@@ -117,16 +282,7 @@ public class PasswordUtils {
         if (length < 6) {
             throw new IllegalArgumentException("密码长度不能小于6");
         }
-        
-        String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789!@#$%^&*";
-        StringBuilder password = new StringBuilder();
-        
-        for (int i = 0; i < length; i++) {
-            int index = SECURE_RANDOM.nextInt(chars.length());
-            password.append(chars.charAt(index));
-        }
-        
-        return password.toString();
+        return TokenRandom.randomString(PASSWORD_CHARS, length);
     }
 
     /**
@@ -154,4 +310,35 @@ public class PasswordUtils {
         
         return Math.min(score, 5);
     }
+
+    /**
+     * 密码验证结果
+     */
+    public static final class Verification {
+
+        private static final Verification MISMATCH = new Verification(false, null);
+        private static final Verification MATCHED = new Verification(true, null);
+
+        private final boolean matched;
+        private final String upgradedPassword;
+
+        private Verification(boolean matched, String upgradedPassword) {
+            this.matched = matched;
+            this.upgradedPassword = upgradedPassword;
+        }
+
+        /**
+         * 密码是否匹配
+         */
+        public boolean isMatched() {
+            return matched;
+        }
+
+        /**
+         * 用当前参数重新加密的密文；不需要升级时为null
+         */
+        public String getUpgradedPassword() {
+            return upgradedPassword;
+        }
+    }
 }
@@ -1,13 +1,34 @@
 package com.anjing.util;
 
 import com.anjing.model.exception.SystemException;
+import com.anjing.model.errorcode.ErrorCode;
 import com.anjing.model.errorcode.RemoteErrorCode;
 import com.anjing.model.response.APIResponse;
 import com.anjing.model.response.BaseResponse;
+import com.anjing.util.remote.BackoffPolicy;
+import com.anjing.util.remote.RemoteCallPolicy;
+import com.anjing.util.remote.RemoteCallRegistry;
+import com.anjing.util.remote.RemoteMethodGuard;
+import com.anjing.util.deadline.Deadline;
+import com.anjing.util.deadline.DeadlineContext;
+import com.anjing.util.trace.TraceContext;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.StopWatch;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -21,6 +42,7 @@ import java.util.function.Supplier;
  *   <li>🛡️ <b>异常统一处理</b> - 统一转换为SystemException</li>
  *   <li>⏱️ <b>性能监控</b> - 自动记录调用耗时</li>
  *   <li>🔄 <b>重试机制</b> - 支持失败重试</li>
+ *   <li>⚡ <b>熔断与舱壁</b> - 按methodName熔断持续失败的下游，并限制单方法并发</li>
  * </ul>
  * 
  * <h3>🎯 适用场景：</h3>
@@ -74,6 +96,9 @@ import java.util.function.Supplier;
  * 📝 [RemoteCall] 响应结果: {"code":"0","message":"success","data":{"orderId":"12345"}}
  * </pre>
  * 
+ * <p>报文只在对应日志级别开启时序列化，按{@link RemoteCallPolicy.LoggingSettings}采样，
+ * 并在达到长度上限（默认500字符）后停止序列化，大响应不会被完整转成JSON</p>
+ * 
  * <h3>🛡️ 支持的响应格式：</h3>
  * <ul>
  *   <li><b>APIResponse&lt;T&gt;</b> - 项目标准响应格式</li>
@@ -81,6 +106,54 @@ import java.util.function.Supplier;
  *   <li><b>自定义响应</b> - 包含success、isSuccess()等字段的响应</li>
  * </ul>
  * 
+ * <h3>⚡ 熔断与舱壁：</h3>
+ * <ul>
+ *   <li>每次尝试前先占用舱壁名额，超限立即失败：{@link RemoteErrorCode#REMOTE_SERVICE_UNAVAILABLE}</li>
+ *   <li>按方法开启后，舱壁之内再按下游实际耗时自适应调整并发限制（Vegas算法），下游变慢时限制收缩，
+ *       超限立即失败且不再重试：{@link RemoteErrorCode#REMOTE_CALL_CONCURRENCY_LIMITED}</li>
+ *   <li>熔断器打开时立即失败且不再重试：{@link RemoteErrorCode#REMOTE_CALL_CIRCUIT_BREAKER_OPEN}</li>
+ *   <li>只有下游抛出异常才计为熔断失败，响应状态校验失败说明下游可用，按成功计</li>
+ *   <li>参数见{@link RemoteCallPolicy}，通过{@code app.remote-call}配置；熔断器与舱壁默认关闭，按方法开启</li>
+ * </ul>
+ * 
+ * <h3>⏳ 重试退避：</h3>
+ * <ul>
+ *   <li>retryInterval作为基础间隔，默认按去相关抖动的指数退避计算实际等待时间，避免调用方同步重试</li>
+ *   <li>每个方法有独立的重试预算，重试量超过近期请求量的一定比例后不再重试</li>
+ *   <li>同步调用在当前线程等待（虚拟线程上等待不占用载体线程）；
+ *       异步调用使用{@link #callWithRetryAsync}，等待期间不占用任何线程</li>
+ * </ul>
+ * 
+ * <h3>⏰ 截止时间：</h3>
+ * <ul>
+ *   <li>存在请求级截止时间（见{@link DeadlineContext}）时，每次尝试前检查是否已超时，超时直接失败：
+ *       {@link RemoteErrorCode#REMOTE_CALL_TIMEOUT}</li>
+ *   <li>退避等待超过剩余时间时不再重试；异步、对冲调用在线程池中沿用发起方的截止时间</li>
+ *   <li>调用函数内可通过{@link DeadlineContext#remainingMillis(long)}把下游客户端的超时收紧到剩余时间</li>
+ * </ul>
+ * 
+ * <h3>🧵 请求ID：</h3>
+ * <ul>
+ *   <li>请求参数继承{@link com.anjing.model.request.BaseRequest}且未设置requestId时，自动填入当前请求ID</li>
+ *   <li>异步、对冲调用在线程池中沿用发起方的请求ID，日志可按请求ID关联（见{@link TraceContext}）</li>
+ * </ul>
+ * 
+ * <h3>🤝 单飞合并：</h3>
+ * <ul>
+ *   <li>{@link #callSingleFlight}/{@link #callNoParamSingleFlight}让相同methodName、相等请求参数的并发调用共享一次下游调用，
+ *       适合热点配置、字典等幂等读调用</li>
+ *   <li>可通过{@code app.remote-call.methods.<methodName>.single-flight.result-ttl-millis}短时间复用成功结果</li>
+ * </ul>
+ * 
+ * <h3>🏇 对冲请求：</h3>
+ * <ul>
+ *   <li>{@link #callHedged}适用于幂等的读调用：首次请求超过该方法近期成功耗时的分位数（默认P95）仍未返回时，
+ *       再发出一次相同请求，取先成功的结果</li>
+ *   <li>对冲量受方法级预算约束（默认不超过请求量的10%），样本不足或未开启时等同于普通调用</li>
+ *   <li>落后的请求无法取消，会继续执行到结束并占用舱壁名额</li>
+ *   <li>参数见{@link RemoteCallPolicy.HedgeSettings}，需按方法开启：{@code app.remote-call.methods.<methodName>.hedge.enabled}</li>
+ * </ul>
+ * 
  * @author Backend Template Team
  * @version 1.0
  * @since 1.0.0
@@ -98,6 +171,21 @@ public class RemoteCallWrapper {
      */
     private static final long DEFAULT_RETRY_INTERVAL = 1000L;
 
+    /**
+     * 自定义响应的成功状态方法，按顺序尝试
+     */
+    private static final String[] SUCCESS_METHOD_NAMES = {"isSuccess", "isSucceeded", "getSuccess"};
+
+    /**
+     * 按响应类型缓存的成功状态方法
+     */
+    private static final ClassValue<MethodHandle[]> SUCCESS_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected MethodHandle[] computeValue(Class<?> type) {
+            return resolveSuccessAccessors(type);
+        }
+    };
+
     /**
      * 🚀 基础远程调用 - 最简单的用法
      * 
@@ -143,30 +231,60 @@ public class RemoteCallWrapper {
     /**
      * 🔄 带重试机制的远程调用
      * 
+     * <p>重试间隔按方法配置的退避策略计算（默认带抖动的指数退避，retryInterval为基础间隔），
+     * 并受方法级重试预算约束</p>
+     * 
      * @param function       调用函数
      * @param request        请求参数
      * @param methodName     方法名称
      * @param retryCount     重试次数
      * @param checkResponse  是否校验响应
-     * @param retryInterval  重试间隔（毫秒）
+     * @param retryInterval  重试基础间隔（毫秒）
      * @param <T>            请求类型
      * @param <R>            响应类型
      * @return 响应结果
      */
     public static <T, R> R callWithRetry(Function<T, R> function, T request, String methodName, 
                                         int retryCount, boolean checkResponse, long retryInterval) {
+        return callWithRetry(function, request, methodName, retryCount, checkResponse,
+                RemoteCallRegistry.guard(methodName).backoffPolicy(retryInterval));
+    }
+
+    /**
+     * 🔄 指定退避策略的远程调用
+     * 
+     * @param function       调用函数
+     * @param request        请求参数
+     * @param methodName     方法名称
+     * @param retryCount     重试次数
+     * @param checkResponse  是否校验响应
+     * @param backoffPolicy  退避策略
+     * @param <T>            请求类型
+     * @param <R>            响应类型
+     * @return 响应结果
+     */
+    public static <T, R> R callWithRetry(Function<T, R> function, T request, String methodName,
+                                        int retryCount, boolean checkResponse, BackoffPolicy backoffPolicy) {
         StopWatch stopWatch = new StopWatch();
+        RemoteMethodGuard guard = RemoteCallRegistry.guard(methodName);
         R response = null;
         Exception lastException = null;
+        long retryDelay = 0L;
+        Deadline deadline = DeadlineContext.current();
+        TraceContext.attach(request);
         
         // 记录调用开始
-        logCallStart(methodName, request);
+        boolean payloadSampled = logCallStart(methodName, request);
+        guard.getRetryBudget().recordRequest();
         
         // 执行调用（包含重试逻辑）
         for (int attempt = 0; attempt <= retryCount; attempt++) {
+            // 已超过截止时间、熔断/舱壁拒绝时直接失败，不再重试
+            checkDeadline(deadline, methodName);
+            acquirePermission(guard, methodName, attempt);
             try {
                 stopWatch.start();
-                response = function.apply(request);
+                response = invoke(function, request, guard);
                 stopWatch.stop();
                 
                 // 校验响应
@@ -175,7 +293,7 @@ public class RemoteCallWrapper {
                 }
                 
                 // 记录成功日志
-                logCallSuccess(methodName, request, response, stopWatch.getTotalTimeMillis(), attempt);
+                logCallSuccess(methodName, request, response, stopWatch.getTotalTimeMillis(), attempt, false, payloadSampled);
                 return response;
                 
             } catch (Exception e) {
@@ -185,21 +303,19 @@ public class RemoteCallWrapper {
                 
                 lastException = e;
                 
-                // 如果是最后一次尝试，或者不需要重试的异常，直接抛出
-                if (attempt >= retryCount || !shouldRetry(e)) {
+                // 最后一次尝试、不需要重试的异常或重试预算耗尽时，直接抛出
+                retryDelay = nextRetryDelay(guard, backoffPolicy, deadline, methodName, attempt, retryCount, e, retryDelay);
+                if (retryDelay < 0) {
                     break;
                 }
                 
-                // 记录重试日志
-                logRetryAttempt(methodName, attempt + 1, retryCount, e.getMessage());
-                
                 // 等待重试间隔
-                if (retryInterval > 0) {
+                if (retryDelay > 0) {
                     try {
-                        Thread.sleep(retryInterval);
+                        Thread.sleep(retryDelay);
                     } catch (InterruptedException ie) {
                         Thread.currentThread().interrupt();
-                    throw new SystemException("远程调用被中断", RemoteErrorCode.REMOTE_CALL_FAILED);
+                        throw new SystemException("远程调用被中断", RemoteErrorCode.REMOTE_CALL_FAILED);
                     }
                 }
             }
@@ -210,6 +326,157 @@ public class RemoteCallWrapper {
         throw new SystemException("远程调用失败: " + lastException.getMessage(), lastException, RemoteErrorCode.REMOTE_CALL_FAILED);
     }
 
+    /**
+     * ⚡ 异步带重试的远程调用
+     * 
+     * <p>每次尝试都提交到executor执行，重试等待通过{@link CompletableFuture#delayedExecutor}调度，
+     * 不会阻塞任何线程；失败时future以SystemException异常结束（包括等待结束后executor拒绝执行重试）</p>
+     * 
+     * @param function       调用函数
+     * @param request        请求参数
+     * @param methodName     方法名称
+     * @param retryCount     重试次数
+     * @param checkResponse  是否校验响应
+     * @param retryInterval  重试基础间隔（毫秒）
+     * @param executor       执行下游调用的线程池
+     * @param <T>            请求类型
+     * @param <R>            响应类型
+     * @return 响应结果的future
+     */
+    public static <T, R> CompletableFuture<R> callWithRetryAsync(Function<T, R> function, T request, String methodName,
+                                                                int retryCount, boolean checkResponse, long retryInterval,
+                                                                Executor executor) {
+        RemoteMethodGuard guard = RemoteCallRegistry.guard(methodName);
+        TraceContext.attach(request);
+        AsyncRetryCall<T, R> call = new AsyncRetryCall<>(function, request, methodName, retryCount, checkResponse,
+                guard.backoffPolicy(retryInterval), guard, executor, DeadlineContext.current());
+        
+        call.payloadSampled = logCallStart(methodName, request);
+        guard.getRetryBudget().recordRequest();
+        call.submit(0, 0L);
+        return call.result;
+    }
+
+    /**
+     * 🏇 对冲模式的远程调用（仅用于幂等请求）
+     * 
+     * <p>调用在executor中执行，当前线程等待最先成功的结果</p>
+     * 
+     * @param function       调用函数
+     * @param request        请求参数
+     * @param methodName     方法名称
+     * @param checkResponse  是否校验响应
+     * @param executor       执行下游调用的线程池
+     * @param <T>            请求类型
+     * @param <R>            响应类型
+     * @return 响应结果
+     */
+    public static <T, R> R callHedged(Function<T, R> function, T request, String methodName,
+                                     boolean checkResponse, Executor executor) {
+        CompletableFuture<R> future = callHedgedAsync(function, request, methodName, checkResponse, executor);
+        Deadline deadline = DeadlineContext.current();
+        try {
+            return deadline != null ? future.get(deadline.remainingNanos(), TimeUnit.NANOSECONDS) : future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SystemException("远程调用被中断", RemoteErrorCode.REMOTE_CALL_FAILED);
+        } catch (TimeoutException e) {
+            throw new SystemException("请求已超过截止时间，放弃等待远程调用: " + methodName, RemoteErrorCode.REMOTE_CALL_TIMEOUT);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SystemException) {
+                throw (SystemException) cause;
+            }
+            throw new SystemException("远程调用失败: " + cause.getMessage(), cause, RemoteErrorCode.REMOTE_CALL_FAILED);
+        }
+    }
+
+    /**
+     * 🏇 异步对冲模式的远程调用（仅用于幂等请求）
+     * 
+     * @param function       调用函数
+     * @param request        请求参数
+     * @param methodName     方法名称
+     * @param checkResponse  是否校验响应
+     * @param executor       执行下游调用的线程池
+     * @param <T>            请求类型
+     * @param <R>            响应类型
+     * @return 最先成功的响应结果的future，全部失败时以SystemException异常结束
+     */
+    public static <T, R> CompletableFuture<R> callHedgedAsync(Function<T, R> function, T request, String methodName,
+                                                             boolean checkResponse, Executor executor) {
+        RemoteMethodGuard guard = RemoteCallRegistry.guard(methodName);
+        TraceContext.attach(request);
+        HedgedCall<T, R> call = new HedgedCall<>(function, request, methodName, checkResponse, guard, executor,
+                DeadlineContext.current());
+        
+        call.payloadSampled = logCallStart(methodName, request);
+        call.start();
+        return call.result;
+    }
+
+    /**
+     * ⏳ 计算下一次重试的等待时间
+     * 
+     * @return 等待时间（毫秒），返回-1表示不再重试
+     */
+    private static long nextRetryDelay(RemoteMethodGuard guard, BackoffPolicy backoffPolicy, Deadline deadline,
+                                       String methodName, int attempt, int retryCount, Exception e, long previousDelay) {
+        if (attempt >= retryCount || !shouldRetry(e)) {
+            return -1L;
+        }
+        long delay = backoffPolicy.nextDelayMillis(attempt + 1, previousDelay);
+        if (deadline != null && delay >= deadline.remainingMillis()) {
+            log.warn("⏰ [RemoteCall] 剩余时间不足以重试，放弃重试: {} | 等待: {}ms | 剩余: {}ms | 原因: {}",
+                    methodName, delay, deadline.remainingMillis(), e.getMessage());
+            return -1L;
+        }
+        if (!guard.getRetryBudget().tryAcquireRetry()) {
+            log.warn("💰 [RemoteCall] 重试预算耗尽，放弃重试: {} | 原因: {}", methodName, e.getMessage());
+            return -1L;
+        }
+        guard.onRetry();
+        logRetryAttempt(methodName, attempt + 1, retryCount, delay, e.getMessage());
+        return delay;
+    }
+
+    /**
+     * ⏰ 请求已超过截止时间时放弃调用
+     */
+    private static void checkDeadline(Deadline deadline, String methodName) {
+        if (deadline != null && deadline.isExpired()) {
+            log.warn("⏰ [RemoteCall] 请求已超过截止时间，放弃调用: {}", methodName);
+            throw new SystemException("请求已超过截止时间，放弃远程调用: " + methodName, RemoteErrorCode.REMOTE_CALL_TIMEOUT);
+        }
+    }
+
+    /**
+     * 🛡️ 获取熔断器和舱壁许可
+     */
+    private static void acquirePermission(RemoteMethodGuard guard, String methodName, int attempt) {
+        try {
+            guard.acquirePermission();
+        } catch (SystemException e) {
+            log.warn("⚡ [RemoteCall] 调用被拒绝: {} | 第{}次尝试 | 原因: {}", methodName, attempt + 1, e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * 🚀 执行下游调用并向熔断器、舱壁回报结果
+     */
+    private static <T, R> R invoke(Function<T, R> function, T request, RemoteMethodGuard guard) {
+        boolean success = false;
+        long start = System.nanoTime();
+        try {
+            R response = function.apply(request);
+            success = true;
+            return response;
+        } finally {
+            guard.onComplete(success, System.nanoTime() - start);
+        }
+    }
+
     /**
      * 📞 无参数远程调用
      * 
@@ -246,9 +513,42 @@ public class RemoteCallWrapper {
     }
 
     /**
-     * 🔍 校验响应结果
+     * 🤝 单飞模式的远程调用（仅用于幂等请求）
+     * 
+     * <p>同一methodName下请求参数相等的并发调用只执行一次，其余调用等待并共享结果；
+     * 配置了{@code single-flight.result-ttl-millis}时，成功结果在有效期内直接复用。
+     * 所有调用方拿到同一个响应对象，不应修改它</p>
+     * 
+     * @param function       调用函数
+     * @param request        请求参数（需正确实现equals/hashCode）
+     * @param methodName     方法名称
+     * @param checkResponse  是否校验响应
+     * @param <T>            请求类型
+     * @param <R>            响应类型
+     * @return 响应结果
+     */
+    public static <T, R> R callSingleFlight(Function<T, R> function, T request, String methodName, boolean checkResponse) {
+        return RemoteCallRegistry.guard(methodName).getSingleFlight()
+                .execute(request, () -> call(function, request, methodName, checkResponse));
+    }
+
+    /**
+     * 🤝 单飞模式的无参数远程调用
+     * 
+     * @param supplier   调用供应商
+     * @param methodName 方法名称
+     * @param <R>        响应类型
+     * @return 响应结果
      */
-    private static <R> void validateResponse(R response, String methodName) {
+    public static <R> R callNoParamSingleFlight(Supplier<R> supplier, String methodName) {
+        return RemoteCallRegistry.guard(methodName).getSingleFlight()
+                .execute(null, () -> callNoParam(supplier, methodName));
+    }
+
+    /**
+     * 🔍 校验响应结果（{@link BatchingRemoteCaller}用于逐条校验批量结果）
+     */
+    static <R> void validateResponse(R response, String methodName) {
         if (response == null) {
             throw new SystemException("远程调用响应为空: " + methodName, RemoteErrorCode.REMOTE_RESPONSE_NULL);
         }
@@ -281,32 +581,47 @@ public class RemoteCallWrapper {
 
     /**
      * 🔍 通过反射校验响应状态
+     * 
+     * <p>状态方法按响应类型解析一次并缓存，没有状态方法的类型缓存为空数组，之后只需直接调用</p>
      */
     private static <R> boolean validateByReflection(R response) {
-        try {
-            Class<?> responseClass = response.getClass();
-            
-            // 尝试常见的成功状态方法
-            String[] successMethods = {"isSuccess", "isSucceeded", "getSuccess"};
-            for (String methodName : successMethods) {
-                try {
-                    Method method = responseClass.getMethod(methodName);
-                    Object result = method.invoke(response);
-                    if (result instanceof Boolean) {
-                        return (Boolean) result;
-                    }
-                } catch (Exception ignored) {
-                    // 方法不存在或调用失败，继续尝试下一个
+        for (MethodHandle accessor : SUCCESS_ACCESSORS.get(response.getClass())) {
+            try {
+                Object result = (Object) accessor.invokeExact((Object) response);
+                if (result instanceof Boolean) {
+                    return (Boolean) result;
                 }
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                // 调用失败，继续尝试下一个
+                log.warn("反射校验响应状态失败: {}", t.getMessage());
             }
-            
-            // 如果没有找到成功状态方法，默认认为成功
-            return true;
-            
-        } catch (Exception e) {
-            log.warn("反射校验响应状态失败: {}", e.getMessage());
-            return true; // 默认认为成功
         }
+        
+        // 如果没有找到成功状态方法，默认认为成功
+        return true;
+    }
+
+    /**
+     * 🔍 解析响应类型上可访问的成功状态方法
+     */
+    private static MethodHandle[] resolveSuccessAccessors(Class<?> responseClass) {
+        List<MethodHandle> accessors = new ArrayList<>(SUCCESS_METHOD_NAMES.length);
+        for (String methodName : SUCCESS_METHOD_NAMES) {
+            try {
+                Method method = responseClass.getMethod(methodName);
+                Class<?> returnType = method.getReturnType();
+                if (returnType != boolean.class && returnType != Boolean.class && returnType != Object.class) {
+                    continue;
+                }
+                accessors.add(MethodHandles.publicLookup().unreflect(method)
+                        .asType(MethodType.methodType(Object.class, Object.class)));
+            } catch (NoSuchMethodException | IllegalAccessException ignored) {
+                // 方法不存在或不可访问，继续尝试下一个
+            }
+        }
+        return accessors.toArray(new MethodHandle[0]);
     }
 
     /**
@@ -316,6 +631,11 @@ public class RemoteCallWrapper {
         // 对于业务异常，通常不重试
         if (e instanceof SystemException) {
             SystemException se = (SystemException) e;
+            // 熔断打开或超过并发限制时，重试只会加重下游负担
+            if (se.getErrorCode() == RemoteErrorCode.REMOTE_CALL_CIRCUIT_BREAKER_OPEN
+                    || se.getErrorCode() == RemoteErrorCode.REMOTE_CALL_CONCURRENCY_LIMITED) {
+                return false;
+            }
             String errorCode = se.getErrorCode().getCode();
             // 网络相关错误可以重试
             return errorCode.startsWith("180"); // 1800-1899是网络和超时错误
@@ -330,32 +650,41 @@ public class RemoteCallWrapper {
 
     /**
      * 📝 记录调用开始日志
+     * 
+     * @return 本次调用是否被采样输出报文，成功日志沿用同一结果
      */
-    private static <T> void logCallStart(String methodName, T request) {
-        try {
-            if (request != null) {
-                String requestJson = JsonUtils.toJson(request);
-                log.info("🚀 [RemoteCall] 开始调用: {} | 请求参数: {}", methodName, requestJson);
-            } else {
-                log.info("🚀 [RemoteCall] 开始调用: {} | 无参数", methodName);
-            }
-        } catch (Exception e) {
-            log.info("🚀 [RemoteCall] 开始调用: {} | 请求参数: [序列化失败: {}]", methodName, e.getMessage());
+    private static <T> boolean logCallStart(String methodName, T request) {
+        if (!log.isInfoEnabled()) {
+            return false;
+        }
+        RemoteCallPolicy.LoggingSettings logging = RemoteCallRegistry.policy(methodName).getLogging();
+        boolean payloadSampled = isPayloadSampled(logging);
+        if (request == null) {
+            log.info("🚀 [RemoteCall] 开始调用: {} | 无参数", methodName);
+        } else if (payloadSampled) {
+            log.info("🚀 [RemoteCall] 开始调用: {} | 请求参数: {}", methodName, toPayloadJson(request, logging));
+        } else {
+            log.info("🚀 [RemoteCall] 开始调用: {}", methodName);
         }
+        return payloadSampled;
     }
 
     /**
      * ✅ 记录调用成功日志
+     *
+     * @param hedgeWon 成功结果是否来自对冲请求
      */
-    private static <T, R> void logCallSuccess(String methodName, T request, R response, long timeMillis, int attempt) {
-        try {
-            String responseJson = JsonUtils.toJson(response);
-            String retryInfo = attempt > 0 ? String.format(" | 重试: %d次", attempt) : "";
+    private static <T, R> void logCallSuccess(String methodName, T request, R response, long timeMillis, int attempt,
+                                              boolean hedgeWon, boolean payloadSampled) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        String retryInfo = hedgeWon ? " | 对冲胜出" : attempt > 0 ? " | 重试: " + attempt + "次" : "";
+        if (payloadSampled) {
             log.info("✅ [RemoteCall] 调用成功: {} | 耗时: {}ms{} | 响应结果: {}", 
-                    methodName, timeMillis, retryInfo, truncateString(responseJson, 500));
-        } catch (Exception e) {
-            log.info("✅ [RemoteCall] 调用成功: {} | 耗时: {}ms | 响应结果: [序列化失败: {}]", 
-                    methodName, timeMillis, e.getMessage());
+                    methodName, timeMillis, retryInfo, toPayloadJson(response, RemoteCallRegistry.policy(methodName).getLogging()));
+        } else {
+            log.info("✅ [RemoteCall] 调用成功: {} | 耗时: {}ms{}", methodName, timeMillis, retryInfo);
         }
     }
 
@@ -363,22 +692,44 @@ public class RemoteCallWrapper {
      * ❌ 记录调用失败日志
      */
     private static <T> void logCallFailure(String methodName, T request, Exception e, long timeMillis) {
+        if (!log.isErrorEnabled()) {
+            return;
+        }
+        RemoteCallPolicy.LoggingSettings logging = RemoteCallRegistry.policy(methodName).getLogging();
+        String requestJson = request == null ? "无参数"
+                : logging.isPayloadEnabled() ? toPayloadJson(request, logging) : "[未输出]";
+        log.error("❌ [RemoteCall] 调用失败: {} | 耗时: {}ms | 请求参数: {} | 异常: {}", 
+                methodName, timeMillis, requestJson, e.getMessage());
+    }
+
+    /**
+     * 🎲 按采样率决定本次调用是否输出报文
+     */
+    private static boolean isPayloadSampled(RemoteCallPolicy.LoggingSettings logging) {
+        if (!logging.isPayloadEnabled()) {
+            return false;
+        }
+        double rate = logging.getPayloadSampleRate();
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    /**
+     * 📝 报文转JSON，达到长度上限后停止序列化
+     */
+    private static String toPayloadJson(Object payload, RemoteCallPolicy.LoggingSettings logging) {
         try {
-            String requestJson = request != null ? JsonUtils.toJson(request) : "无参数";
-            log.error("❌ [RemoteCall] 调用失败: {} | 耗时: {}ms | 请求参数: {} | 异常: {}", 
-                    methodName, timeMillis, requestJson, e.getMessage());
-        } catch (Exception ex) {
-            log.error("❌ [RemoteCall] 调用失败: {} | 耗时: {}ms | 请求参数: [序列化失败] | 异常: {}", 
-                    methodName, timeMillis, e.getMessage());
+            return JsonUtils.toJson(payload, logging.getMaxPayloadChars());
+        } catch (Exception e) {
+            return "[序列化失败: " + e.getMessage() + "]";
         }
     }
 
     /**
      * 🔄 记录重试日志
      */
-    private static void logRetryAttempt(String methodName, int currentAttempt, int maxRetry, String errorMessage) {
-        log.warn("🔄 [RemoteCall] 重试调用: {} | 第{}次重试 (最多{}次) | 原因: {}", 
-                methodName, currentAttempt, maxRetry, errorMessage);
+    private static void logRetryAttempt(String methodName, int currentAttempt, int maxRetry, long delayMillis, String errorMessage) {
+        log.warn("🔄 [RemoteCall] 重试调用: {} | 第{}次重试 (最多{}次) | 等待: {}ms | 原因: {}", 
+                methodName, currentAttempt, maxRetry, delayMillis, errorMessage);
     }
 
     /**
@@ -392,12 +743,252 @@ public class RemoteCallWrapper {
     }
 
     /**
-     * ✂️ 截断字符串（避免日志过长）
+     * ⚡ 异步重试调用的执行状态
+     */
+    private static final class AsyncRetryCall<T, R> {
+        private final Function<T, R> function;
+        private final T request;
+        private final String methodName;
+        private final int retryCount;
+        private final boolean checkResponse;
+        private final BackoffPolicy backoffPolicy;
+        private final RemoteMethodGuard guard;
+        private final Executor executor;
+        private final Deadline deadline;
+        private final String traceId;
+        private final CompletableFuture<R> result = new CompletableFuture<>();
+        private boolean payloadSampled;
+        private long elapsedNanos;
+
+        private AsyncRetryCall(Function<T, R> function, T request, String methodName, int retryCount,
+                               boolean checkResponse, BackoffPolicy backoffPolicy, RemoteMethodGuard guard,
+                               Executor executor, Deadline deadline) {
+            this.function = function;
+            this.request = request;
+            this.methodName = methodName;
+            this.retryCount = retryCount;
+            this.checkResponse = checkResponse;
+            this.backoffPolicy = backoffPolicy;
+            this.guard = guard;
+            this.executor = executor;
+            this.deadline = deadline;
+            this.traceId = TraceContext.current();
+        }
+
+        /**
+         * 立即把一次尝试提交到executor；被拒绝时future以异常结束
+         */
+        private void submit(int attempt, long retryDelay) {
+            try {
+                executor.execute(TraceContext.wrap(traceId, DeadlineContext.wrap(deadline, () -> {
+                    try {
+                        attempt(attempt, retryDelay);
+                    } catch (Throwable t) {
+                        result.completeExceptionally(t);
+                    }
+                })));
+            } catch (RejectedExecutionException e) {
+                result.completeExceptionally(new SystemException("远程调用线程池已满: " + methodName, e, RemoteErrorCode.REMOTE_SERVICE_UNAVAILABLE));
+            }
+        }
+
+        /**
+         * 等待{@code delay}毫秒后提交下一次尝试
+         *
+         * <p>不直接使用{@code delayedExecutor(delay, unit, executor)}：到期后由JDK内部的Delayer线程提交到executor，
+         * 被拒绝时异常会被吞掉，future永远不会结束；这里由默认Delayer只运行{@link #submit}，拒绝在其中处理</p>
+         */
+        private void scheduleRetry(int attempt, long delay) {
+            CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS).execute(() -> submit(attempt, delay));
+        }
+
+        private void attempt(int attempt, long previousDelay) {
+            try {
+                checkDeadline(deadline, methodName);
+                acquirePermission(guard, methodName, attempt);
+            } catch (SystemException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            long start = System.nanoTime();
+            R response;
+            try {
+                response = invoke(function, request, guard);
+            } catch (Exception e) {
+                elapsedNanos += System.nanoTime() - start;
+                onFailure(attempt, previousDelay, e);
+                return;
+            }
+            elapsedNanos += System.nanoTime() - start;
+            try {
+                if (checkResponse) {
+                    validateResponse(response, methodName);
+                }
+                logCallSuccess(methodName, request, response, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), attempt, false, payloadSampled);
+                result.complete(response);
+            } catch (Exception e) {
+                onFailure(attempt, previousDelay, e);
+            }
+        }
+
+        private void onFailure(int attempt, long previousDelay, Exception e) {
+            long delay = nextRetryDelay(guard, backoffPolicy, deadline, methodName, attempt, retryCount, e, previousDelay);
+            if (delay < 0) {
+                logCallFailure(methodName, request, e, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+                result.completeExceptionally(new SystemException("远程调用失败: " + e.getMessage(), e, RemoteErrorCode.REMOTE_CALL_FAILED));
+                return;
+            }
+            scheduleRetry(attempt + 1, delay);
+        }
+    }
+
+    /**
+     * 🏇 对冲调用的执行状态
      */
-    private static String truncateString(String str, int maxLength) {
-        if (str == null || str.length() <= maxLength) {
-            return str;
+    private static final class HedgedCall<T, R> {
+        private final Function<T, R> function;
+        private final T request;
+        private final String methodName;
+        private final boolean checkResponse;
+        private final RemoteMethodGuard guard;
+        private final Executor executor;
+        private final Deadline deadline;
+        private final String traceId;
+        private final CompletableFuture<R> result = new CompletableFuture<>();
+        /**
+         * 尚未结束的请求数，归零时整体失败；对冲只在大于0时加入
+         */
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private final long startNanos = System.nanoTime();
+        private boolean payloadSampled;
+        private volatile Throwable lastFailure;
+
+        private HedgedCall(Function<T, R> function, T request, String methodName, boolean checkResponse,
+                           RemoteMethodGuard guard, Executor executor, Deadline deadline) {
+            this.function = function;
+            this.request = request;
+            this.methodName = methodName;
+            this.checkResponse = checkResponse;
+            this.guard = guard;
+            this.executor = executor;
+            this.deadline = deadline;
+            this.traceId = TraceContext.current();
+        }
+
+        private void start() {
+            long hedgeDelay = guard.hedgeDelayMillis();
+            guard.getHedgeBudget().recordRequest();
+            launch(executor, 0);
+            if (hedgeDelay >= 0 && !result.isDone() && (deadline == null || hedgeDelay < deadline.remainingMillis())) {
+                // 同异步重试：到期后自行提交到executor，拒绝不会被Delayer线程吞掉
+                CompletableFuture.delayedExecutor(hedgeDelay, TimeUnit.MILLISECONDS).execute(() -> {
+                    try {
+                        executor.execute(() -> hedge(hedgeDelay));
+                    } catch (RejectedExecutionException e) {
+                        // 线程池已满时放弃对冲，首次请求照常进行
+                        log.debug("🏇 [RemoteCall] 线程池已满，放弃对冲: {}", methodName);
+                    }
+                });
+            }
+        }
+
+        private void hedge(long hedgeDelay) {
+            if (result.isDone() || !joinPending()) {
+                return;
+            }
+            if (!guard.getHedgeBudget().tryAcquireHedge()) {
+                log.debug("💰 [RemoteCall] 对冲预算耗尽: {}", methodName);
+                onFailure(null);
+                return;
+            }
+            log.info("🏇 [RemoteCall] 发出对冲请求: {} | 已等待: {}ms", methodName, hedgeDelay);
+            TraceContext.wrap(traceId, DeadlineContext.wrap(deadline, () -> attempt(1))).run();
+        }
+
+        /**
+         * 仍有请求在途时登记一个新请求
+         */
+        private boolean joinPending() {
+            while (true) {
+                int current = pending.get();
+                if (current == 0) {
+                    return false;
+                }
+                if (pending.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private void launch(Executor target, int attempt) {
+            try {
+                target.execute(TraceContext.wrap(traceId, DeadlineContext.wrap(deadline, () -> attempt(attempt))));
+            } catch (RejectedExecutionException e) {
+                onFailure(new SystemException("远程调用线程池已满: " + methodName, e, RemoteErrorCode.REMOTE_SERVICE_UNAVAILABLE));
+            }
+        }
+
+        private void attempt(int attempt) {
+            if (result.isDone()) {
+                onFailure(null);
+                return;
+            }
+            try {
+                checkDeadline(deadline, methodName);
+                acquirePermission(guard, methodName, attempt);
+                R response = invoke(function, request, guard);
+                if (checkResponse) {
+                    validateResponse(response, methodName);
+                }
+                if (result.complete(response)) {
+                    boolean hedgeWon = attempt > 0;
+                    if (hedgeWon) {
+                        guard.getHedgeBudget().recordHedgeWon();
+                    }
+                    // 对冲不是重试，不计入重试次数
+                    logCallSuccess(methodName, request, response, elapsedMillis(), 0, hedgeWon, payloadSampled);
+                }
+            } catch (Throwable t) {
+                onFailure(t);
+            }
+        }
+
+        /**
+         * 一个请求结束但没有成功；最后一个结束的请求负责让整体失败
+         *
+         * @param t 失败原因，为null表示请求被放弃
+         */
+        private void onFailure(Throwable t) {
+            if (t != null) {
+                lastFailure = t;
+            }
+            if (pending.decrementAndGet() > 0 || result.isDone()) {
+                return;
+            }
+            Throwable cause = lastFailure != null ? lastFailure
+                    : new SystemException("远程调用已放弃: " + methodName, RemoteErrorCode.REMOTE_CALL_FAILED);
+            if (cause instanceof Exception) {
+                logCallFailure(methodName, request, (Exception) cause, elapsedMillis());
+            }
+            result.completeExceptionally(isRejection(cause) ? cause
+                    : new SystemException("远程调用失败: " + cause.getMessage(), cause, RemoteErrorCode.REMOTE_CALL_FAILED));
+        }
+
+        /**
+         * 熔断/舱壁/并发限制拒绝与同步调用一致，原样抛出
+         */
+        private boolean isRejection(Throwable cause) {
+            if (!(cause instanceof SystemException)) {
+                return false;
+            }
+            ErrorCode errorCode = ((SystemException) cause).getErrorCode();
+            return errorCode == RemoteErrorCode.REMOTE_CALL_CIRCUIT_BREAKER_OPEN
+                    || errorCode == RemoteErrorCode.REMOTE_CALL_CONCURRENCY_LIMITED
+                    || errorCode == RemoteErrorCode.REMOTE_SERVICE_UNAVAILABLE;
+        }
+
+        private long elapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
         }
-        return str.substring(0, maxLength) + "...";
     }
 }
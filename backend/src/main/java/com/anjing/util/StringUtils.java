@@ -1,6 +1,8 @@
 package com.anjing.util;
 
 import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
@@ -13,6 +15,13 @@ import java.util.regex.Pattern;
  */
 public class StringUtils {
 
+    /**
+     * 缓存的缩写类名数量上限
+     */
+    private static final int MAX_CACHED_CLASS_NAMES = 4096;
+
+    private static final Map<String, String> ABBREVIATED_CLASS_NAMES = new ConcurrentHashMap<>();
+
     private StringUtils() {
         // 工具类，禁止实例化
     }
@@ -317,4 +326,42 @@ public class StringUtils {
         
         return sb.toString();
     }
+
+    /**
+     * 类名的包名缩写为首字母：com.anjing.util.ExceptionUtils → c.a.u.ExceptionUtils
+     * 
+     * <p>用于堆栈和日志中的类名、logger名，结果缓存</p>
+     * 
+     * @param className 全限定类名
+     * @return 缩写后的类名
+     */
+    public static String abbreviateClassName(String className) {
+        if (className == null) {
+            return null;
+        }
+        String abbreviated = ABBREVIATED_CLASS_NAMES.get(className);
+        if (abbreviated != null) {
+            return abbreviated;
+        }
+        int last = className.lastIndexOf('.');
+        if (last < 0) {
+            return className;
+        }
+        StringBuilder sb = new StringBuilder(className.length());
+        boolean segmentStart = true;
+        for (int i = 0; i < last; i++) {
+            char c = className.charAt(i);
+            if (segmentStart) {
+                sb.append(c).append('.');
+                segmentStart = false;
+            } else if (c == '.') {
+                segmentStart = true;
+            }
+        }
+        abbreviated = sb.append(className, last + 1, className.length()).toString();
+        if (ABBREVIATED_CLASS_NAMES.size() < MAX_CACHED_CLASS_NAMES) {
+            ABBREVIATED_CLASS_NAMES.put(className, abbreviated);
+        }
+        return abbreviated;
+    }
 }
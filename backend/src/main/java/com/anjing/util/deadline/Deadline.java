@@ -0,0 +1,82 @@
+package com.anjing.util.deadline;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ⏰ 截止时间
+ *
+ * <p>基于{@link System#nanoTime()}的不可变截止时间点，不受系统时钟调整影响</p>
+ *
+ * <h3>📋 使用示例：</h3>
+ * <pre>
+ * Deadline deadline = Deadline.after(3, TimeUnit.SECONDS);
+ * long waitMillis = deadline.clampMillis(5000);   // 最多等待到截止时间
+ * if (deadline.isExpired()) { ... }
+ * </pre>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public final class Deadline {
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * 从现在起经过指定时间后截止
+     */
+    public static Deadline after(long timeout, TimeUnit unit) {
+        return new Deadline(System.nanoTime() + unit.toNanos(Math.max(0L, timeout)));
+    }
+
+    /**
+     * 剩余时间（纳秒），已过期时为0
+     */
+    public long remainingNanos() {
+        return Math.max(0L, deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * 剩余时间（毫秒），已过期时为0
+     */
+    public long remainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(remainingNanos());
+    }
+
+    /**
+     * 是否已过期
+     */
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * 把超时时间收紧到剩余时间以内
+     *
+     * @param timeoutMillis 原超时时间（毫秒）
+     * @return min(timeoutMillis, 剩余时间)
+     */
+    public long clampMillis(long timeoutMillis) {
+        return Math.min(timeoutMillis, remainingMillis());
+    }
+
+    /**
+     * 取两个截止时间中更早的一个
+     *
+     * @param other 另一个截止时间，可为null
+     */
+    public Deadline min(Deadline other) {
+        if (other == null) {
+            return this;
+        }
+        return other.deadlineNanos - deadlineNanos < 0 ? other : this;
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline[剩余" + remainingMillis() + "ms]";
+    }
+}
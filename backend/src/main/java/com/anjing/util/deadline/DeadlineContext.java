@@ -0,0 +1,120 @@
+package com.anjing.util.deadline;
+
+import com.anjing.model.errorcode.CommonErrorCode;
+import com.anjing.model.exception.SystemException;
+
+/**
+ * ⏰ 请求级截止时间上下文
+ *
+ * <p>在请求入口（{@code DeadlineFilter}或带timeoutMillis的{@code @Facade}方法）设置，
+ * 之后的锁等待、重试等待和下游调用都把自己的超时收紧到剩余时间以内，
+ * 客户端已经放弃的请求会尽早结束，而不是继续占用锁、线程和下游容量</p>
+ *
+ * <h3>📋 使用示例：</h3>
+ * <pre>
+ * // 下游调用：把HTTP客户端的读超时收紧到剩余时间
+ * long readTimeout = DeadlineContext.remainingMillis(3000);
+ *
+ * // 长耗时步骤之前：已超时直接结束
+ * DeadlineContext.checkNotExpired("生成报表");
+ *
+ * // 切换线程时携带截止时间
+ * executor.execute(DeadlineContext.wrap(task));
+ * </pre>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public final class DeadlineContext {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private DeadlineContext() {
+        // 工具类，禁止实例化
+    }
+
+    /**
+     * 当前线程的截止时间，未设置时返回null
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 设置截止时间
+     *
+     * @return 之前的截止时间，用于{@link #restore(Deadline)}
+     */
+    public static Deadline set(Deadline deadline) {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(deadline);
+        return previous;
+    }
+
+    /**
+     * 恢复之前的截止时间（为null时清除）
+     */
+    public static void restore(Deadline previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * 清除截止时间
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 把超时时间收紧到剩余时间以内，未设置截止时间时原样返回
+     *
+     * @param timeoutMillis 原超时时间（毫秒）
+     */
+    public static long remainingMillis(long timeoutMillis) {
+        Deadline deadline = CURRENT.get();
+        return deadline != null ? deadline.clampMillis(timeoutMillis) : timeoutMillis;
+    }
+
+    /**
+     * 截止时间已过时抛出异常
+     *
+     * @param operation 即将执行的操作，用于异常信息
+     * @throws SystemException 已超时（SYSTEM_TIMEOUT）
+     */
+    public static void checkNotExpired(String operation) {
+        Deadline deadline = CURRENT.get();
+        if (deadline != null && deadline.isExpired()) {
+            throw new SystemException("请求已超过截止时间，放弃执行: " + operation, CommonErrorCode.SYSTEM_TIMEOUT);
+        }
+    }
+
+    /**
+     * 让任务在其他线程中沿用当前线程的截止时间
+     */
+    public static Runnable wrap(Runnable task) {
+        return wrap(CURRENT.get(), task);
+    }
+
+    /**
+     * 让任务在执行线程中使用指定的截止时间
+     *
+     * @param deadline 截止时间，为null时原样返回任务
+     */
+    public static Runnable wrap(Deadline deadline, Runnable task) {
+        if (deadline == null) {
+            return task;
+        }
+        return () -> {
+            Deadline previous = set(deadline);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package com.anjing.util.id;
+
+/**
+ * 🗄️ 号段加载器
+ *
+ * <p>从共享存储中为业务标识分配一个新号段，同一业务标识每次返回的号段互不重叠</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface SegmentLoader {
+
+    /**
+     * 分配一个新号段
+     *
+     * @param bizTag 业务标识
+     * @return 号段，包含首尾
+     */
+    Segment load(String bizTag);
+
+    /**
+     * 号段：{@code [start, end]}
+     */
+    final class Segment {
+        private final long start;
+        private final long end;
+
+        public Segment(long start, long end) {
+            if (start > end) {
+                throw new IllegalArgumentException("号段为空: [" + start + ", " + end + "]");
+            }
+            this.start = start;
+            this.end = end;
+        }
+
+        public long getStart() {
+            return start;
+        }
+
+        public long getEnd() {
+            return end;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.anjing.util.id;
+
+import com.anjing.util.random.TokenRandom;
+
+import java.util.UUID;
+
+/**
+ * 🔤 UUID编码
+ *
+ * <p>直接把128位的高低两个long编码为字符数组，不经过{@link UUID#toString()}再{@code replace("-", "")}</p>
+ *
+ * <ul>
+ *   <li>hex：32个字符（可选带4个连字符，与{@link UUID#toString()}一致）</li>
+ *   <li>base62：22个字符，按数值大小左侧补0，字符串顺序与数值顺序一致</li>
+ *   <li>Crockford base32：26个字符（ULID），字符串顺序与数值顺序一致</li>
+ *   <li>二进制：16字节大端，适合{@code BINARY(16)}列</li>
+ * </ul>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public final class UuidCodec {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final char[] BASE62 = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    /**
+     * 128位数值的base62长度
+     */
+    public static final int BASE62_LENGTH = 22;
+
+    /**
+     * 128位数值的Crockford base32长度
+     */
+    public static final int CROCKFORD_LENGTH = 26;
+
+    private UuidCodec() {
+        // 工具类，禁止实例化
+    }
+
+    /**
+     * 随机（版本4）UUID的高64位和低64位，随机数来自{@link TokenRandom}
+     *
+     * @return {高64位, 低64位}
+     */
+    public static long[] randomV4() {
+        long msb = TokenRandom.nextLong();
+        long lsb = TokenRandom.nextLong();
+        // 版本号4
+        msb = (msb & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        // 变体10xx
+        lsb = (lsb & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new long[]{msb, lsb};
+    }
+
+    /**
+     * 编码为32位小写十六进制
+     *
+     * @param dashed 是否带连字符（8-4-4-4-12）
+     */
+    public static String toHex(long msb, long lsb, boolean dashed) {
+        char[] chars = new char[dashed ? 36 : 32];
+        int pos = 0;
+        for (int i = 0; i < 16; i++) {
+            if (dashed && (i == 4 || i == 6 || i == 8 || i == 10)) {
+                chars[pos++] = '-';
+            }
+            long word = i < 8 ? msb : lsb;
+            int b = (int) (word >>> (56 - (i & 7) * 8)) & 0xff;
+            chars[pos++] = HEX[b >>> 4];
+            chars[pos++] = HEX[b & 0xf];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 编码为22位base62
+     */
+    public static String toBase62(long msb, long lsb) {
+        // 按4个32位无符号整数做长除法
+        long[] limbs = {msb >>> 32, msb & 0xffffffffL, lsb >>> 32, lsb & 0xffffffffL};
+        char[] chars = new char[BASE62_LENGTH];
+        for (int pos = BASE62_LENGTH - 1; pos >= 0; pos--) {
+            long remainder = 0;
+            for (int i = 0; i < limbs.length; i++) {
+                long value = (remainder << 32) | limbs[i];
+                limbs[i] = value / 62;
+                remainder = value % 62;
+            }
+            chars[pos] = BASE62[(int) remainder];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 解析22位base62
+     *
+     * @return {高64位, 低64位}
+     */
+    public static long[] fromBase62(String value) {
+        if (value == null || value.length() != BASE62_LENGTH) {
+            throw new IllegalArgumentException("base62 UUID长度必须为" + BASE62_LENGTH + ": " + value);
+        }
+        long[] limbs = new long[4];
+        for (int pos = 0; pos < BASE62_LENGTH; pos++) {
+            long carry = digitOf(value.charAt(pos));
+            for (int i = limbs.length - 1; i >= 0; i--) {
+                long product = limbs[i] * 62 + carry;
+                limbs[i] = product & 0xffffffffL;
+                carry = product >>> 32;
+            }
+            if (carry != 0) {
+                throw new IllegalArgumentException("base62 UUID超出128位: " + value);
+            }
+        }
+        return new long[]{(limbs[0] << 32) | limbs[1], (limbs[2] << 32) | limbs[3]};
+    }
+
+    /**
+     * 编码为26位Crockford base32（ULID）
+     */
+    public static String toCrockford(long msb, long lsb) {
+        char[] chars = new char[CROCKFORD_LENGTH];
+        for (int i = 0; i < CROCKFORD_LENGTH; i++) {
+            int shift = 5 * (CROCKFORD_LENGTH - 1 - i);
+            long bits;
+            if (shift >= 64) {
+                bits = msb >>> (shift - 64);
+            } else if (shift > 59) {
+                // 跨越高低两个long
+                bits = (lsb >>> shift) | (msb << (64 - shift));
+            } else {
+                bits = lsb >>> shift;
+            }
+            chars[i] = CROCKFORD[(int) (bits & 0x1f)];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 解析26位Crockford base32（不区分大小写，I/L按1、O按0处理）
+     *
+     * @return {高64位, 低64位}
+     */
+    public static long[] fromCrockford(String value) {
+        if (value == null || value.length() != CROCKFORD_LENGTH) {
+            throw new IllegalArgumentException("ULID长度必须为" + CROCKFORD_LENGTH + ": " + value);
+        }
+        if (crockfordDigitOf(value.charAt(0)) > 7) {
+            throw new IllegalArgumentException("ULID超出128位: " + value);
+        }
+        long msb = 0L;
+        long lsb = 0L;
+        for (int i = 0; i < CROCKFORD_LENGTH; i++) {
+            msb = (msb << 5) | (lsb >>> 59);
+            lsb = (lsb << 5) | crockfordDigitOf(value.charAt(i));
+        }
+        return new long[]{msb, lsb};
+    }
+
+    /**
+     * 编码为16字节大端二进制
+     */
+    public static byte[] toBytes(long msb, long lsb) {
+        byte[] bytes = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (msb >>> (56 - i * 8));
+            bytes[i + 8] = (byte) (lsb >>> (56 - i * 8));
+        }
+        return bytes;
+    }
+
+    /**
+     * 编码为16字节大端二进制
+     */
+    public static byte[] toBytes(UUID uuid) {
+        return toBytes(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * 解析16字节大端二进制
+     */
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != 16) {
+            throw new IllegalArgumentException("UUID二进制长度必须为16");
+        }
+        long msb = 0L;
+        long lsb = 0L;
+        for (int i = 0; i < 8; i++) {
+            msb = (msb << 8) | (bytes[i] & 0xff);
+            lsb = (lsb << 8) | (bytes[i + 8] & 0xff);
+        }
+        return new UUID(msb, lsb);
+    }
+
+    private static int crockfordDigitOf(char c) {
+        char upper = Character.toUpperCase(c);
+        switch (upper) {
+            case 'I':
+            case 'L':
+                return 1;
+            case 'O':
+                return 0;
+            default:
+                break;
+        }
+        for (int i = 0; i < CROCKFORD.length; i++) {
+            if (CROCKFORD[i] == upper) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("非法的Crockford base32字符: " + c);
+    }
+
+    private static int digitOf(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 36;
+        }
+        throw new IllegalArgumentException("非法的base62字符: " + c);
+    }
+}
@@ -0,0 +1,152 @@
+package com.anjing.util.random;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * 🎲 高吞吐安全随机数
+ *
+ * <p>验证码、随机密码、令牌、UUID等需要密码学强度随机数的场景使用。
+ * 共享一个{@link SecureRandom}时所有请求线程竞争同一个实例，这里改为：</p>
+ * <ul>
+ *   <li>每个线程一个DRBG（NIST SP 800-90A，256位强度），实例化时从共享的{@link SecureRandom}取种子作为个性化串</li>
+ *   <li>每个线程缓存一块随机字节，用完再整块填充，不为每个字符调用一次{@code nextInt}</li>
+ *   <li>字节映射到字符集时使用拒绝采样（丢弃{@code 256 % n}以上的字节），各字符概率严格相等</li>
+ * </ul>
+ *
+ * <h3>📋 使用示例：</h3>
+ * <pre>
+ * String code = TokenRandom.randomString(TokenRandom.DIGITS, 6);
+ * byte[] key = TokenRandom.nextBytes(32);
+ * </pre>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public final class TokenRandom {
+
+    public static final char[] DIGITS = "0123456789".toCharArray();
+    public static final char[] LETTERS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    public static final char[] ALPHANUMERIC = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+    /**
+     * 每个线程缓存的随机字节数
+     */
+    private static final int BUFFER_SIZE = 256;
+
+    /**
+     * DRBG的种子来源，只在线程首次使用时访问
+     */
+    private static final SecureRandom SEED_SOURCE = new SecureRandom();
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private TokenRandom() {
+        // 工具类，禁止实例化
+    }
+
+    /**
+     * 生成随机字符串
+     *
+     * @param alphabet 字符集（1-256个字符）
+     * @param length   长度
+     * @return 随机字符串
+     */
+    public static String randomString(char[] alphabet, int length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("长度必须大于0");
+        }
+        int n = alphabet.length;
+        if (n == 0 || n > 256) {
+            throw new IllegalArgumentException("字符集大小必须在1-256之间: " + n);
+        }
+        // 小于limit的字节按 b % n 映射时各字符概率相等
+        int limit = 256 - (256 % n);
+        State state = STATE.get();
+        char[] chars = new char[length];
+        int i = 0;
+        while (i < length) {
+            int b = state.nextByte();
+            if (b < limit) {
+                chars[i++] = alphabet[b % n];
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 填充随机字节
+     */
+    public static void nextBytes(byte[] bytes) {
+        STATE.get().fill(bytes);
+    }
+
+    /**
+     * 生成指定长度的随机字节
+     */
+    public static byte[] nextBytes(int length) {
+        byte[] bytes = new byte[length];
+        nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * 随机long
+     */
+    public static long nextLong() {
+        State state = STATE.get();
+        long value = 0L;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | state.nextByte();
+        }
+        return value;
+    }
+
+    /**
+     * 单个线程的DRBG和字节缓冲
+     */
+    private static final class State {
+        private final SecureRandom drbg = newDrbg();
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position = BUFFER_SIZE;
+
+        int nextByte() {
+            if (position == BUFFER_SIZE) {
+                drbg.nextBytes(buffer);
+                position = 0;
+            }
+            return buffer[position++] & 0xff;
+        }
+
+        void fill(byte[] bytes) {
+            // 大块请求直接由DRBG生成，小块从缓冲中取
+            if (bytes.length >= BUFFER_SIZE) {
+                drbg.nextBytes(bytes);
+                return;
+            }
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) nextByte();
+            }
+        }
+
+        private static SecureRandom newDrbg() {
+            byte[] personalization = new byte[32];
+            SEED_SOURCE.nextBytes(personalization);
+            byte[] threadName = Thread.currentThread().getName().getBytes(StandardCharsets.UTF_8);
+            byte[] combined = new byte[personalization.length + threadName.length];
+            System.arraycopy(personalization, 0, combined, 0, personalization.length);
+            System.arraycopy(threadName, 0, combined, personalization.length, threadName.length);
+            try {
+                return SecureRandom.getInstance("DRBG",
+                        DrbgParameters.instantiation(256, DrbgParameters.Capability.RESEED_ONLY, combined));
+            } catch (NoSuchAlgorithmException e) {
+                // 个别JDK发行版不提供DRBG时退回默认实现（仍是每线程一个实例）
+                SecureRandom fallback = new SecureRandom();
+                fallback.setSeed(combined);
+                return fallback;
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.anjing.util.remote;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 📐 自适应并发限制（Vegas算法）
+ *
+ * <p>根据观测到的调用耗时自动调整单个方法允许的在途调用数：
+ * 用最小耗时估计下游无排队时的RTT，用{@code limit * (1 - minRtt / rtt)}估算下游排队长度，
+ * 排队少时放大限制、排队多或调用失败时收缩限制，超过限制的调用立即拒绝</p>
+ *
+ * <h3>📋 调整规则（log = max(1, log10(limit))）：</h3>
+ * <ul>
+ *   <li>调用失败：limit - log</li>
+ *   <li>排队 &lt;= log：limit + 6 * log</li>
+ *   <li>排队 &lt; 3 * log：limit + log</li>
+ *   <li>排队 &gt; 6 * log：limit - log</li>
+ *   <li>在途调用不足限制的一半时下游未被充分使用，不调整</li>
+ * </ul>
+ *
+ * <p>每{@code probeSamples}个样本重新测量一次最小RTT，以跟上下游基线耗时的变化。
+ * 限制值的更新只允许一个线程进行，其余线程跳过本次样本，热路径不加锁</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final RemoteCallPolicy.ConcurrencyLimitSettings settings;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final AtomicBoolean updating = new AtomicBoolean();
+
+    private volatile double estimatedLimit;
+    private long minRttNanos;
+    private int samplesSinceProbe;
+
+    public AdaptiveConcurrencyLimiter(RemoteCallPolicy.ConcurrencyLimitSettings settings) {
+        this.settings = settings;
+        this.estimatedLimit = clamp(settings.getInitialLimit());
+    }
+
+    /**
+     * 尝试占用一个并发名额
+     *
+     * @return 是否占用成功
+     */
+    public boolean tryAcquire() {
+        if (!settings.isEnabled()) {
+            return true;
+        }
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= (int) estimatedLimit) {
+                rejectedCount.increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * 释放并发名额并用本次调用结果调整限制，必须与{@link #tryAcquire()}成功配对调用
+     *
+     * @param success    下游调用是否正常返回
+     * @param rttNanos   调用耗时（纳秒）
+     */
+    public void release(boolean success, long rttNanos) {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        int current = inFlight.getAndDecrement();
+        if (updating.compareAndSet(false, true)) {
+            try {
+                update(success, rttNanos, current);
+            } finally {
+                updating.set(false);
+            }
+        }
+    }
+
+    private void update(boolean success, long rttNanos, int inFlightAtCompletion) {
+        double limit = estimatedLimit;
+        double log = Math.max(1.0, Math.log10(limit));
+        if (!success) {
+            estimatedLimit = clamp(limit - log);
+            return;
+        }
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (++samplesSinceProbe >= settings.getProbeSamples() || minRttNanos == 0 || rttNanos < minRttNanos) {
+            samplesSinceProbe = 0;
+            minRttNanos = rttNanos;
+        }
+        if (inFlightAtCompletion * 2 < limit) {
+            return;
+        }
+        double queueSize = Math.ceil(limit * (1.0 - (double) minRttNanos / rttNanos));
+        if (queueSize <= log) {
+            limit += 6 * log;
+        } else if (queueSize < 3 * log) {
+            limit += log;
+        } else if (queueSize > 6 * log) {
+            limit -= log;
+        } else {
+            return;
+        }
+        estimatedLimit = clamp(limit);
+    }
+
+    private double clamp(double limit) {
+        return Math.max(settings.getMinLimit(), Math.min(settings.getMaxLimit(), limit));
+    }
+
+    /**
+     * 当前并发限制
+     */
+    public int getLimit() {
+        return settings.isEnabled() ? (int) estimatedLimit : Integer.MAX_VALUE;
+    }
+
+    /**
+     * 当前在途调用数
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 超过并发限制被拒绝的调用数
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+}
@@ -0,0 +1,98 @@
+package com.anjing.util.remote;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ⏳ 重试退避策略
+ *
+ * <p>根据重试次数和上一次的等待时间计算下一次等待时间，
+ * 默认使用带去相关抖动（decorrelated jitter）的指数退避，避免大量调用方同步重试放大故障</p>
+ *
+ * <h3>📋 内置策略：</h3>
+ * <ul>
+ *   <li><b>FIXED</b> - 固定间隔，每次等待base毫秒</li>
+ *   <li><b>EXPONENTIAL</b> - 指数退避：base * 2^(n-1)，不超过cap</li>
+ *   <li><b>DECORRELATED_JITTER</b> - random(base, prev * 3)，不超过cap</li>
+ * </ul>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface BackoffPolicy {
+
+    /**
+     * 退避策略类型
+     */
+    enum Type {
+        FIXED, EXPONENTIAL, DECORRELATED_JITTER
+    }
+
+    /**
+     * 计算下一次重试前的等待时间
+     *
+     * @param retry               第几次重试（从1开始）
+     * @param previousDelayMillis 上一次等待时间，首次重试为0
+     * @return 等待时间（毫秒）
+     */
+    long nextDelayMillis(int retry, long previousDelayMillis);
+
+    /**
+     * 按类型创建退避策略
+     *
+     * @param type       策略类型
+     * @param baseMillis 基础间隔（毫秒）
+     * @param capMillis  最大间隔（毫秒）
+     */
+    static BackoffPolicy of(Type type, long baseMillis, long capMillis) {
+        if (type == null) {
+            return decorrelatedJitter(baseMillis, capMillis);
+        }
+        switch (type) {
+            case FIXED:
+                return fixed(baseMillis);
+            case EXPONENTIAL:
+                return exponential(baseMillis, capMillis);
+            default:
+                return decorrelatedJitter(baseMillis, capMillis);
+        }
+    }
+
+    /**
+     * 固定间隔
+     */
+    static BackoffPolicy fixed(long intervalMillis) {
+        return (retry, previousDelayMillis) -> Math.max(0L, intervalMillis);
+    }
+
+    /**
+     * 指数退避
+     */
+    static BackoffPolicy exponential(long baseMillis, long capMillis) {
+        return (retry, previousDelayMillis) -> {
+            if (baseMillis <= 0) {
+                return 0L;
+            }
+            int shift = Math.min(Math.max(retry - 1, 0), 30);
+            long delay = baseMillis << shift;
+            return delay < 0 ? capMillis : Math.min(capMillis, delay);
+        };
+    }
+
+    /**
+     * 去相关抖动的指数退避
+     */
+    static BackoffPolicy decorrelatedJitter(long baseMillis, long capMillis) {
+        return (retry, previousDelayMillis) -> {
+            if (baseMillis <= 0) {
+                return 0L;
+            }
+            long previous = Math.max(baseMillis, previousDelayMillis);
+            long upper = Math.min(capMillis, previous > Long.MAX_VALUE / 3 ? Long.MAX_VALUE : previous * 3);
+            if (upper <= baseMillis) {
+                return Math.min(capMillis, baseMillis);
+            }
+            return ThreadLocalRandom.current().nextLong(baseMillis, upper + 1);
+        };
+    }
+}
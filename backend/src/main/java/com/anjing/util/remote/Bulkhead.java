@@ -0,0 +1,74 @@
+package com.anjing.util.remote;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 🚧 无锁并发舱壁
+ *
+ * <p>限制单个远程方法的在途调用数，超过上限时立即拒绝而不是排队等待，
+ * 避免一个慢依赖占满全部请求线程</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public class Bulkhead {
+
+    private final RemoteCallPolicy.BulkheadSettings settings;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public Bulkhead(RemoteCallPolicy.BulkheadSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * 尝试占用一个并发名额
+     *
+     * @return 是否占用成功
+     */
+    public boolean tryAcquire() {
+        if (!settings.isEnabled()) {
+            return true;
+        }
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= settings.getMaxConcurrentCalls()) {
+                rejectedCount.increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * 释放并发名额，必须与{@link #tryAcquire()}成功配对调用
+     */
+    public void release() {
+        if (settings.isEnabled()) {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * 当前在途调用数
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 剩余可用并发名额
+     */
+    public int getAvailable() {
+        return settings.isEnabled() ? Math.max(0, settings.getMaxConcurrentCalls() - inFlight.get()) : Integer.MAX_VALUE;
+    }
+
+    /**
+     * 被舱壁拒绝的调用数
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+}
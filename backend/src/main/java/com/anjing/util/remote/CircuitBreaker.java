@@ -0,0 +1,157 @@
+package com.anjing.util.remote;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ⚡ 无锁熔断器
+ *
+ * <p>基于滑动窗口失败率的熔断器，状态切换全部通过CAS完成</p>
+ *
+ * <h3>🔄 状态转换：</h3>
+ * <pre>
+ * CLOSED ──失败率≥阈值──> OPEN ──等待openStateMillis──> HALF_OPEN
+ *   ▲                                                   │
+ *   └──────────────探测请求全部成功─────────────────────┤
+ *                       OPEN <──任一探测失败────────────┘
+ * </pre>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public class CircuitBreaker {
+
+    /**
+     * 熔断器状态
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final int SLOT_SUCCESS = 0;
+    private static final int SLOT_FAILURE = 1;
+
+    private final RemoteCallPolicy.CircuitBreakerSettings settings;
+    private final SlidingWindowCounter window;
+    private final long openStateNanos;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicLong openedAt = new AtomicLong();
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+    private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public CircuitBreaker(RemoteCallPolicy.CircuitBreakerSettings settings) {
+        this.settings = settings;
+        this.window = new SlidingWindowCounter(Math.max(1, settings.getSlidingWindowSeconds()), 1000L, 2);
+        this.openStateNanos = TimeUnit.MILLISECONDS.toNanos(settings.getOpenStateMillis());
+    }
+
+    /**
+     * 尝试获取调用许可
+     *
+     * @return 是否允许本次调用
+     */
+    public boolean tryAcquirePermission() {
+        if (!settings.isEnabled()) {
+            return true;
+        }
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (System.nanoTime() - openedAt.get() < openStateNanos) {
+                rejectedCount.increment();
+                return false;
+            }
+            if (state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+                halfOpenSuccesses.set(0);
+                halfOpenPermits.set(Math.max(1, settings.getHalfOpenProbes()));
+            }
+        }
+        // HALF_OPEN：只放行有限的探测请求
+        int permits;
+        do {
+            permits = halfOpenPermits.get();
+            if (permits <= 0) {
+                rejectedCount.increment();
+                return false;
+            }
+        } while (!halfOpenPermits.compareAndSet(permits, permits - 1));
+        return true;
+    }
+
+    /**
+     * 记录调用成功
+     */
+    public void onSuccess() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        if (state.get() == State.HALF_OPEN) {
+            if (halfOpenSuccesses.incrementAndGet() >= Math.max(1, settings.getHalfOpenProbes())
+                    && state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+                window.reset();
+            }
+            return;
+        }
+        window.increment(SLOT_SUCCESS);
+    }
+
+    /**
+     * 记录调用失败
+     */
+    public void onError() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        State current = state.get();
+        if (current == State.HALF_OPEN) {
+            transitionToOpen(State.HALF_OPEN);
+            return;
+        }
+        if (current == State.OPEN) {
+            return;
+        }
+        window.increment(SLOT_FAILURE);
+        long failures = window.sum(SLOT_FAILURE);
+        long total = failures + window.sum(SLOT_SUCCESS);
+        if (total >= settings.getMinimumCalls()
+                && failures * 100 >= (long) settings.getFailureRateThreshold() * total) {
+            transitionToOpen(State.CLOSED);
+        }
+    }
+
+    private void transitionToOpen(State expected) {
+        halfOpenPermits.set(0);
+        openedAt.set(System.nanoTime());
+        state.compareAndSet(expected, State.OPEN);
+    }
+
+    /**
+     * 当前状态
+     */
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * 窗口内失败率（百分比），调用数为0时返回0
+     */
+    public double getFailureRate() {
+        long failures = window.sum(SLOT_FAILURE);
+        long total = failures + window.sum(SLOT_SUCCESS);
+        return total == 0 ? 0D : failures * 100D / total;
+    }
+
+    /**
+     * 被熔断拒绝的调用数
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+}
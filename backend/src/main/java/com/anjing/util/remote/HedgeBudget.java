@@ -0,0 +1,84 @@
+package com.anjing.util.remote;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 🏇 对冲请求预算
+ *
+ * <p>对冲（hedging）请求在首次调用超过方法的延迟分位数后再发出一次相同请求，取先成功的结果。
+ * 每个对冲请求都是额外的下游负载，因此窗口内对冲数不超过{@code 请求数 * budgetRatio}，
+ * 下游整体变慢时对冲会被预算截断，而不是把流量翻倍</p>
+ *
+ * <p>与{@link RetryBudget}相同，检查与计数之间不加锁，高并发下允许少量超出</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public class HedgeBudget {
+
+    private static final int SLOT_REQUEST = 0;
+    private static final int SLOT_HEDGE = 1;
+
+    private final RemoteCallPolicy.HedgeSettings settings;
+    private final SlidingWindowCounter window;
+    private final LongAdder hedgedCount = new LongAdder();
+    private final LongAdder hedgeWonCount = new LongAdder();
+    private final LongAdder exhaustedCount = new LongAdder();
+
+    public HedgeBudget(RemoteCallPolicy.HedgeSettings settings) {
+        this.settings = settings;
+        this.window = new SlidingWindowCounter(Math.max(1, settings.getWindowSeconds()), 1000L, 2);
+    }
+
+    /**
+     * 记录一次对冲模式的调用
+     */
+    public void recordRequest() {
+        window.increment(SLOT_REQUEST);
+    }
+
+    /**
+     * 尝试消费一次对冲额度
+     *
+     * @return 是否允许发出对冲请求
+     */
+    public boolean tryAcquireHedge() {
+        long requests = window.sum(SLOT_REQUEST);
+        long hedges = window.sum(SLOT_HEDGE);
+        if (hedges >= (long) (requests * settings.getBudgetRatio())) {
+            exhaustedCount.increment();
+            return false;
+        }
+        window.increment(SLOT_HEDGE);
+        hedgedCount.increment();
+        return true;
+    }
+
+    /**
+     * 记录一次对冲请求先于首次请求成功
+     */
+    public void recordHedgeWon() {
+        hedgeWonCount.increment();
+    }
+
+    /**
+     * 已发出的对冲请求数
+     */
+    public long getHedgedCount() {
+        return hedgedCount.sum();
+    }
+
+    /**
+     * 对冲请求胜出的次数
+     */
+    public long getHedgeWonCount() {
+        return hedgeWonCount.sum();
+    }
+
+    /**
+     * 因预算耗尽而放弃的对冲数
+     */
+    public long getExhaustedCount() {
+        return exhaustedCount.sum();
+    }
+}
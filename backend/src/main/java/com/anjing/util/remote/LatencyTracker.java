@@ -0,0 +1,151 @@
+package com.anjing.util.remote;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ⏱️ 在线延迟分位数统计
+ *
+ * <p>按对数-线性分桶（每个2的幂区间再分4档，相对误差约25%）统计滑动窗口内的调用耗时，
+ * 桶计数复用{@link SlidingWindowCounter}，记录无锁；分位数计算需要遍历全部桶，
+ * 因此结果每秒刷新一次，其余时间只读缓存的快照</p>
+ *
+ * <h3>📋 使用示例：</h3>
+ * <pre>
+ * LatencyTracker tracker = new LatencyTracker(10, 1000);
+ * tracker.record(elapsedNanos);
+ * long p95 = tracker.percentileMillis(95);   // 样本不足时返回-1
+ * </pre>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public class LatencyTracker {
+
+    /**
+     * 每个2的幂区间的细分档数（2^SUB_BITS）
+     */
+    private static final int SUB_BITS = 2;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+
+    /**
+     * 最大可区分的耗时：2^20毫秒（约17分钟），更大的值计入最后一个桶
+     */
+    private static final int MAX_EXPONENT = 20;
+    private static final int SLOT_COUNT = SUB_COUNT + (MAX_EXPONENT - SUB_BITS + 1) * SUB_COUNT;
+
+    /**
+     * 分位数缓存的刷新间隔
+     */
+    private static final long REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final SlidingWindowCounter window;
+    private volatile Snapshot snapshot;
+
+    /**
+     * @param bucketCount  时间桶数量
+     * @param bucketMillis 单个时间桶跨度（毫秒）
+     */
+    public LatencyTracker(int bucketCount, long bucketMillis) {
+        this.window = new SlidingWindowCounter(bucketCount, bucketMillis, SLOT_COUNT);
+        this.snapshot = new Snapshot(System.nanoTime() - REFRESH_NANOS, new long[0], 0L);
+    }
+
+    /**
+     * 记录一次调用耗时
+     *
+     * @param elapsedNanos 耗时（纳秒）
+     */
+    public void record(long elapsedNanos) {
+        window.increment(slotOf(TimeUnit.NANOSECONDS.toMillis(Math.max(0L, elapsedNanos))));
+    }
+
+    /**
+     * 窗口内的样本数（最多延迟1秒）
+     */
+    public long getSampleCount() {
+        return currentSnapshot().total;
+    }
+
+    /**
+     * 窗口内指定分位的耗时上界
+     *
+     * @param percentile 分位（0-100）
+     * @return 耗时（毫秒），窗口内没有样本时返回-1
+     */
+    public long percentileMillis(double percentile) {
+        Snapshot current = currentSnapshot();
+        if (current.total == 0L) {
+            return -1L;
+        }
+        long rank = (long) Math.ceil(current.total * Math.min(100.0, Math.max(0.0, percentile)) / 100.0);
+        long seen = 0L;
+        for (int slot = 0; slot < current.counts.length; slot++) {
+            seen += current.counts[slot];
+            if (seen >= Math.max(1L, rank)) {
+                return upperBoundOf(slot);
+            }
+        }
+        return upperBoundOf(SLOT_COUNT - 1);
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        long now = System.nanoTime();
+        if (now - current.takenAt < REFRESH_NANOS) {
+            return current;
+        }
+        long[] counts = new long[SLOT_COUNT];
+        long total = 0L;
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            counts[slot] = window.sum(slot);
+            total += counts[slot];
+        }
+        // 并发刷新时后写者覆盖先写者，两者结果等价
+        current = new Snapshot(now, counts, total);
+        snapshot = current;
+        return current;
+    }
+
+    /**
+     * 耗时（毫秒）对应的桶：小于4ms精确计数，之后每个2的幂区间分4档
+     */
+    static int slotOf(long millis) {
+        if (millis < SUB_COUNT) {
+            return (int) millis;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(millis);
+        if (exponent > MAX_EXPONENT) {
+            return SLOT_COUNT - 1;
+        }
+        int sub = (int) (millis >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+        return SUB_COUNT + (exponent - SUB_BITS) * SUB_COUNT + sub;
+    }
+
+    /**
+     * 桶的耗时上界（毫秒）
+     */
+    static long upperBoundOf(int slot) {
+        if (slot < SUB_COUNT) {
+            return slot;
+        }
+        int exponent = (slot - SUB_COUNT) / SUB_COUNT + SUB_BITS;
+        int sub = (slot - SUB_COUNT) % SUB_COUNT;
+        long width = 1L << (exponent - SUB_BITS);
+        return (1L << exponent) + (sub + 1) * width - 1;
+    }
+
+    /**
+     * 分位数计算用的桶计数快照
+     */
+    private static final class Snapshot {
+        private final long takenAt;
+        private final long[] counts;
+        private final long total;
+
+        private Snapshot(long takenAt, long[] counts, long total) {
+            this.takenAt = takenAt;
+            this.counts = counts;
+            this.total = total;
+        }
+    }
+}
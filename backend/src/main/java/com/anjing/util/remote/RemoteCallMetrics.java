@@ -0,0 +1,86 @@
+package com.anjing.util.remote;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📊 单个远程方法的耗时与计数指标
+ *
+ * <p>按结果（success/failure）分别记录Micrometer {@link Timer}，分位数由Micrometer内置的HDR直方图计算，
+ * 统计窗口为{@code window}（滑动窗口，分3段轮换）；重试单独计数</p>
+ *
+ * <h3>📋 指标（tag: method）：</h3>
+ * <ul>
+ *   <li><b>remote.call.duration</b>（tag: outcome） - 调用耗时、次数与分位数</li>
+ *   <li><b>remote.call.retries</b> - 重试次数</li>
+ * </ul>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public class RemoteCallMetrics {
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter retryCounter;
+
+    /**
+     * @param registry    指标注册表
+     * @param methodName  方法名称
+     * @param percentiles 发布的分位数，如0.5、0.95、0.99
+     * @param window      分位数统计窗口
+     */
+    public RemoteCallMetrics(MeterRegistry registry, String methodName, double[] percentiles, Duration window) {
+        this.successTimer = timer(registry, methodName, "success", percentiles, window);
+        this.failureTimer = timer(registry, methodName, "failure", percentiles, window);
+        this.retryCounter = Counter.builder("remote.call.retries")
+                .tag("method", methodName)
+                .description("远程调用重试次数")
+                .register(registry);
+    }
+
+    private static Timer timer(MeterRegistry registry, String methodName, String outcome,
+                               double[] percentiles, Duration window) {
+        return Timer.builder("remote.call.duration")
+                .tag("method", methodName)
+                .tag("outcome", outcome)
+                .description("远程调用耗时")
+                .publishPercentiles(percentiles)
+                .distributionStatisticExpiry(window)
+                .distributionStatisticBufferLength(3)
+                .register(registry);
+    }
+
+    /**
+     * 记录一次调用
+     *
+     * @param success      下游调用是否正常返回
+     * @param elapsedNanos 调用耗时（纳秒）
+     */
+    public void record(boolean success, long elapsedNanos) {
+        (success ? successTimer : failureTimer).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 记录一次重试
+     */
+    public void recordRetry() {
+        retryCounter.increment();
+    }
+
+    public Timer getSuccessTimer() {
+        return successTimer;
+    }
+
+    public Timer getFailureTimer() {
+        return failureTimer;
+    }
+
+    public Counter getRetryCounter() {
+        return retryCounter;
+    }
+}
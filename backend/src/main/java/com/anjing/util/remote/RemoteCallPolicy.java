@@ -0,0 +1,275 @@
+package com.anjing.util.remote;
+
+import lombok.Data;
+
+/**
+ * 🎛️ 远程调用治理策略
+ *
+ * <p>按{@code methodName}生效的熔断、舱壁等治理参数，
+ * 由{@link RemoteCallRegistry}统一管理，可通过{@code app.remote-call}配置覆盖</p>
+ *
+ * <h3>📋 配置示例：</h3>
+ * <pre>
+ * app:
+ *   remote-call:
+ *     defaults:
+ *       circuit-breaker:
+ *         failure-rate-threshold: 50
+ *       bulkhead:
+ *         max-concurrent-calls: 64
+ *       retry:
+ *         backoff: decorrelated-jitter
+ *     methods:
+ *       processPayment:
+ *         circuit-breaker:
+ *           enabled: true
+ *         bulkhead:
+ *           enabled: true
+ *           max-concurrent-calls: 16
+ *       getUserInfo:
+ *         hedge:
+ *           enabled: true
+ * </pre>
+ *
+ * <p>熔断器、舱壁、自适应并发限制与对冲默认关闭，按方法开启；
+ * 方法级配置叠加在defaults之上，只覆盖填写的字段</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Data
+public class RemoteCallPolicy {
+
+    /**
+     * 熔断器配置
+     */
+    private CircuitBreakerSettings circuitBreaker = new CircuitBreakerSettings();
+
+    /**
+     * 舱壁（并发隔离）配置
+     */
+    private BulkheadSettings bulkhead = new BulkheadSettings();
+
+    /**
+     * 自适应并发限制配置
+     */
+    private ConcurrencyLimitSettings concurrencyLimit = new ConcurrencyLimitSettings();
+
+    /**
+     * 重试退避与重试预算配置
+     */
+    private RetrySettings retry = new RetrySettings();
+
+    /**
+     * 对冲请求配置
+     */
+    private HedgeSettings hedge = new HedgeSettings();
+
+    /**
+     * 单飞调用合并配置
+     */
+    private SingleFlightSettings singleFlight = new SingleFlightSettings();
+
+    /**
+     * 请求/响应报文日志配置
+     */
+    private LoggingSettings logging = new LoggingSettings();
+
+    /**
+     * 熔断器配置
+     */
+    @Data
+    public static class CircuitBreakerSettings {
+        /**
+         * 是否启用熔断器
+         */
+        private boolean enabled = false;
+
+        /**
+         * 失败率阈值（百分比），达到后熔断器打开
+         */
+        private int failureRateThreshold = 50;
+
+        /**
+         * 窗口内最少调用次数，未达到时不计算失败率
+         */
+        private int minimumCalls = 20;
+
+        /**
+         * 滑动窗口长度（秒），每秒一个桶
+         */
+        private int slidingWindowSeconds = 10;
+
+        /**
+         * 熔断打开后的等待时间（毫秒），之后进入半开状态
+         */
+        private long openStateMillis = 5000;
+
+        /**
+         * 半开状态允许的探测请求数，全部成功后关闭熔断器
+         */
+        private int halfOpenProbes = 3;
+    }
+
+    /**
+     * 舱壁配置
+     */
+    @Data
+    public static class BulkheadSettings {
+        /**
+         * 是否启用舱壁
+         */
+        private boolean enabled = false;
+
+        /**
+         * 单个方法允许的最大并发调用数，超过后立即拒绝
+         */
+        private int maxConcurrentCalls = 64;
+    }
+
+    /**
+     * 自适应并发限制配置
+     *
+     * <p>舱壁是固定的硬上限，自适应限制在其之内按下游实际耗时调整；
+     * 下游连续失败会把限制压到下限，默认关闭，按方法开启</p>
+     */
+    @Data
+    public static class ConcurrencyLimitSettings {
+        /**
+         * 是否启用自适应并发限制
+         */
+        private boolean enabled = false;
+
+        /**
+         * 初始并发限制
+         */
+        private int initialLimit = 20;
+
+        /**
+         * 并发限制下限
+         */
+        private int minLimit = 2;
+
+        /**
+         * 并发限制上限
+         */
+        private int maxLimit = 200;
+
+        /**
+         * 每隔多少个样本重新测量下游无排队时的耗时
+         */
+        private int probeSamples = 1000;
+    }
+
+    /**
+     * 重试配置
+     *
+     * <p>基础间隔取调用方传入的retryInterval</p>
+     */
+    @Data
+    public static class RetrySettings {
+        /**
+         * 退避策略
+         */
+        private BackoffPolicy.Type backoff = BackoffPolicy.Type.DECORRELATED_JITTER;
+
+        /**
+         * 单次退避的最大等待时间（毫秒）
+         */
+        private long maxIntervalMillis = 10000;
+
+        /**
+         * 是否启用重试预算
+         */
+        private boolean budgetEnabled = true;
+
+        /**
+         * 重试量占窗口内请求量的最大比例
+         */
+        private double budgetRatio = 0.2;
+
+        /**
+         * 低流量时每秒保底允许的重试次数
+         */
+        private int budgetMinRetriesPerSecond = 10;
+
+        /**
+         * 重试预算统计窗口（秒）
+         */
+        private int budgetWindowSeconds = 10;
+    }
+
+    /**
+     * 对冲请求配置
+     *
+     * <p>只对幂等的读调用开启；对冲延迟取该方法窗口内成功调用耗时的指定分位</p>
+     */
+    @Data
+    public static class HedgeSettings {
+        /**
+         * 是否启用对冲请求
+         */
+        private boolean enabled = false;
+
+        /**
+         * 触发对冲的耗时分位（0-100）
+         */
+        private double percentile = 95.0;
+
+        /**
+         * 窗口内最少样本数，不足时不发出对冲
+         */
+        private int minimumSamples = 100;
+
+        /**
+         * 对冲延迟下限（毫秒），避免延迟分布很窄时几乎每次都对冲
+         */
+        private long minDelayMillis = 5;
+
+        /**
+         * 对冲量占窗口内请求量的最大比例
+         */
+        private double budgetRatio = 0.1;
+
+        /**
+         * 延迟与对冲预算的统计窗口（秒）
+         */
+        private int windowSeconds = 10;
+    }
+
+    /**
+     * 单飞调用合并配置
+     *
+     * <p>只对使用{@code callSingleFlight}/{@code callNoParamSingleFlight}的调用生效</p>
+     */
+    @Data
+    public static class SingleFlightSettings {
+        /**
+         * 成功结果的复用时间（毫秒），0表示只合并在途调用
+         */
+        private long resultTtlMillis = 0;
+    }
+
+    /**
+     * 报文日志配置
+     *
+     * <p>调用开始/成功日志中的报文按采样率输出；失败日志总是带上请求报文</p>
+     */
+    @Data
+    public static class LoggingSettings {
+        /**
+         * 是否在日志中输出请求/响应报文
+         */
+        private boolean payloadEnabled = true;
+
+        /**
+         * 报文采样率（0-1），1表示每次调用都输出
+         */
+        private double payloadSampleRate = 1.0;
+
+        /**
+         * 报文最大字符数，超过后停止序列化并截断
+         */
+        private int maxPayloadChars = 500;
+    }
+}
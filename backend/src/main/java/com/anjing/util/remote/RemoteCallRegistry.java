@@ -0,0 +1,95 @@
+package com.anjing.util.remote;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 📚 远程调用治理注册中心
+ *
+ * <p>按{@code methodName}缓存{@link RemoteMethodGuard}，供静态的{@code RemoteCallWrapper}使用。
+ * Spring启动后由{@code RemoteCallConfig}写入配置并注册指标监听</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public final class RemoteCallRegistry {
+
+    /**
+     * methodName为空时使用的key
+     */
+    private static final String UNKNOWN_METHOD = "UnknownMethod";
+
+    private static final Map<String, RemoteMethodGuard> GUARDS = new ConcurrentHashMap<>();
+
+    private static final Collection<Consumer<RemoteMethodGuard>> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private static volatile RemoteCallPolicy defaultPolicy = new RemoteCallPolicy();
+
+    private static volatile Map<String, RemoteCallPolicy> methodPolicies = Collections.emptyMap();
+
+    private RemoteCallRegistry() {
+        // 工具类，禁止实例化
+    }
+
+    /**
+     * 更新治理配置，已创建的治理单元会被丢弃并按新配置重建
+     *
+     * @param defaults 默认策略
+     * @param methods  方法级策略（已叠加默认策略）
+     */
+    public static void configure(RemoteCallPolicy defaults, Map<String, RemoteCallPolicy> methods) {
+        defaultPolicy = defaults != null ? defaults : new RemoteCallPolicy();
+        methodPolicies = methods != null ? new HashMap<>(methods) : Collections.emptyMap();
+        GUARDS.clear();
+    }
+
+    /**
+     * 获取方法的治理单元，不存在时按配置创建
+     */
+    public static RemoteMethodGuard guard(String methodName) {
+        String key = methodName != null ? methodName : UNKNOWN_METHOD;
+        RemoteMethodGuard guard = GUARDS.get(key);
+        if (guard != null) {
+            return guard;
+        }
+        boolean[] created = new boolean[1];
+        guard = GUARDS.computeIfAbsent(key, name -> {
+            created[0] = true;
+            return new RemoteMethodGuard(name, policy(name));
+        });
+        if (created[0]) {
+            for (Consumer<RemoteMethodGuard> listener : LISTENERS) {
+                listener.accept(guard);
+            }
+        }
+        return guard;
+    }
+
+    /**
+     * 获取方法生效的策略
+     */
+    public static RemoteCallPolicy policy(String methodName) {
+        RemoteCallPolicy policy = methodName != null ? methodPolicies.get(methodName) : null;
+        return policy != null ? policy : defaultPolicy;
+    }
+
+    /**
+     * 当前所有治理单元
+     */
+    public static Collection<RemoteMethodGuard> guards() {
+        return Collections.unmodifiableCollection(GUARDS.values());
+    }
+
+    /**
+     * 注册治理单元创建监听（用于绑定指标），已存在的治理单元会立即回放
+     */
+    public static void addListener(Consumer<RemoteMethodGuard> listener) {
+        LISTENERS.add(listener);
+        GUARDS.values().forEach(listener);
+    }
+}
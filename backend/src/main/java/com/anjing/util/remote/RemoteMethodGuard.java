@@ -0,0 +1,176 @@
+package com.anjing.util.remote;
+
+import com.anjing.model.errorcode.RemoteErrorCode;
+import com.anjing.model.exception.SystemException;
+
+/**
+ * 🛡️ 单个远程方法的治理单元
+ *
+ * <p>按{@code methodName}聚合熔断器、舱壁、自适应并发限制、重试预算、延迟统计、对冲预算与单飞合并，由{@link RemoteCallRegistry}创建并缓存</p>
+ *
+ * <h3>📋 调用约定：</h3>
+ * <pre>
+ * guard.acquirePermission();      // 被拒绝时抛出SystemException
+ * boolean success = false;
+ * try {
+ *     result = doCall();
+ *     success = true;
+ * } finally {
+ *     guard.onComplete(success, elapsedNanos);  // 记录结果并释放并发名额
+ * }
+ * </pre>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public class RemoteMethodGuard {
+
+    private final String methodName;
+    private final RemoteCallPolicy policy;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final RetryBudget retryBudget;
+    private final LatencyTracker latencyTracker;
+    private final HedgeBudget hedgeBudget;
+    private final SingleFlight singleFlight;
+    private volatile RemoteCallMetrics metrics;
+
+    public RemoteMethodGuard(String methodName, RemoteCallPolicy policy) {
+        this.methodName = methodName;
+        this.policy = policy;
+        this.circuitBreaker = new CircuitBreaker(policy.getCircuitBreaker());
+        this.bulkhead = new Bulkhead(policy.getBulkhead());
+        this.concurrencyLimiter = new AdaptiveConcurrencyLimiter(policy.getConcurrencyLimit());
+        this.retryBudget = new RetryBudget(policy.getRetry());
+        this.latencyTracker = new LatencyTracker(Math.max(1, policy.getHedge().getWindowSeconds()), 1000L);
+        this.hedgeBudget = new HedgeBudget(policy.getHedge());
+        this.singleFlight = new SingleFlight(policy.getSingleFlight());
+    }
+
+    /**
+     * 获取调用许可：依次占用舱壁名额、自适应并发名额，再询问熔断器
+     *
+     * @throws SystemException 舱壁已满（REMOTE_SERVICE_UNAVAILABLE）、超过自适应并发限制（REMOTE_CALL_CONCURRENCY_LIMITED）
+     *                         或熔断器打开（REMOTE_CALL_CIRCUIT_BREAKER_OPEN）
+     */
+    public void acquirePermission() {
+        if (!bulkhead.tryAcquire()) {
+            throw new SystemException("远程调用并发已达上限: " + methodName, RemoteErrorCode.REMOTE_SERVICE_UNAVAILABLE);
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            bulkhead.release();
+            throw new SystemException("远程调用并发超过自适应限制(" + concurrencyLimiter.getLimit() + "): " + methodName,
+                    RemoteErrorCode.REMOTE_CALL_CONCURRENCY_LIMITED);
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            concurrencyLimiter.release(true, 0L);
+            bulkhead.release();
+            throw new SystemException("远程调用熔断中: " + methodName, RemoteErrorCode.REMOTE_CALL_CIRCUIT_BREAKER_OPEN);
+        }
+    }
+
+    /**
+     * 记录调用结果并释放并发名额
+     *
+     * @param success      下游调用是否正常返回
+     * @param elapsedNanos 调用耗时（纳秒）
+     */
+    public void onComplete(boolean success, long elapsedNanos) {
+        RemoteCallMetrics current = metrics;
+        if (current != null) {
+            current.record(success, elapsedNanos);
+        }
+        try {
+            if (success) {
+                circuitBreaker.onSuccess();
+                latencyTracker.record(elapsedNanos);
+            } else {
+                circuitBreaker.onError();
+            }
+        } finally {
+            concurrencyLimiter.release(success, elapsedNanos);
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * 记录一次重试
+     */
+    public void onRetry() {
+        RemoteCallMetrics current = metrics;
+        if (current != null) {
+            current.recordRetry();
+        }
+    }
+
+    /**
+     * 绑定Micrometer指标，未绑定时（如非Spring环境）不记录
+     */
+    public void bindMetrics(RemoteCallMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public RemoteCallMetrics getMetrics() {
+        return metrics;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public RemoteCallPolicy getPolicy() {
+        return policy;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public Bulkhead getBulkhead() {
+        return bulkhead;
+    }
+
+    public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
+    public LatencyTracker getLatencyTracker() {
+        return latencyTracker;
+    }
+
+    public HedgeBudget getHedgeBudget() {
+        return hedgeBudget;
+    }
+
+    public SingleFlight getSingleFlight() {
+        return singleFlight;
+    }
+
+    /**
+     * 当前的对冲延迟
+     *
+     * @return 延迟（毫秒），未启用对冲或样本不足时返回-1
+     */
+    public long hedgeDelayMillis() {
+        RemoteCallPolicy.HedgeSettings hedge = policy.getHedge();
+        if (!hedge.isEnabled() || latencyTracker.getSampleCount() < hedge.getMinimumSamples()) {
+            return -1L;
+        }
+        return Math.max(hedge.getMinDelayMillis(), latencyTracker.percentileMillis(hedge.getPercentile()));
+    }
+
+    /**
+     * 按方法配置创建退避策略
+     *
+     * @param baseMillis 基础间隔（调用方传入的retryInterval）
+     */
+    public BackoffPolicy backoffPolicy(long baseMillis) {
+        RemoteCallPolicy.RetrySettings retry = policy.getRetry();
+        return BackoffPolicy.of(retry.getBackoff(), baseMillis, Math.max(baseMillis, retry.getMaxIntervalMillis()));
+    }
+}
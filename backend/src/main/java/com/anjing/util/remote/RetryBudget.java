@@ -0,0 +1,69 @@
+package com.anjing.util.remote;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 💰 重试预算
+ *
+ * <p>按方法限制重试量占近期请求量的比例：窗口内重试数不超过
+ * {@code 请求数 * budgetRatio + budgetMinRetriesPerSecond * 窗口秒数}，
+ * 下游整体故障时重试会迅速被预算截断，不会把流量放大为(1 + retryCount)倍</p>
+ *
+ * <p>检查与计数之间不加锁，高并发下允许少量超出，换取无锁的热路径</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public class RetryBudget {
+
+    private static final int SLOT_REQUEST = 0;
+    private static final int SLOT_RETRY = 1;
+
+    private final RemoteCallPolicy.RetrySettings settings;
+    private final SlidingWindowCounter window;
+    private final int windowSeconds;
+    private final LongAdder exhaustedCount = new LongAdder();
+
+    public RetryBudget(RemoteCallPolicy.RetrySettings settings) {
+        this.settings = settings;
+        this.windowSeconds = Math.max(1, settings.getBudgetWindowSeconds());
+        this.window = new SlidingWindowCounter(windowSeconds, 1000L, 2);
+    }
+
+    /**
+     * 记录一次业务请求（首次尝试）
+     */
+    public void recordRequest() {
+        if (settings.isBudgetEnabled()) {
+            window.increment(SLOT_REQUEST);
+        }
+    }
+
+    /**
+     * 尝试消费一次重试额度
+     *
+     * @return 是否允许重试
+     */
+    public boolean tryAcquireRetry() {
+        if (!settings.isBudgetEnabled()) {
+            return true;
+        }
+        long requests = window.sum(SLOT_REQUEST);
+        long retries = window.sum(SLOT_RETRY);
+        long allowed = (long) (requests * settings.getBudgetRatio())
+                + (long) settings.getBudgetMinRetriesPerSecond() * windowSeconds;
+        if (retries >= allowed) {
+            exhaustedCount.increment();
+            return false;
+        }
+        window.increment(SLOT_RETRY);
+        return true;
+    }
+
+    /**
+     * 因预算耗尽而放弃的重试次数
+     */
+    public long getExhaustedCount() {
+        return exhaustedCount.sum();
+    }
+}
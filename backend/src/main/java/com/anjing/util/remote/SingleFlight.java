@@ -0,0 +1,148 @@
+package com.anjing.util.remote;
+
+import com.anjing.model.errorcode.RemoteErrorCode;
+import com.anjing.model.exception.SystemException;
+import com.anjing.util.deadline.Deadline;
+import com.anjing.util.deadline.DeadlineContext;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 🤝 单飞（single-flight）调用合并
+ *
+ * <p>同一方法下请求参数相等（{@code equals}/{@code hashCode}）的并发调用只执行一次，
+ * 其余调用等待并共享同一个结果；可选地把成功结果保留{@code resultTtlMillis}毫秒，
+ * 期间到达的相同请求直接复用。失败结果不缓存，每个等待者都会收到同一个异常</p>
+ *
+ * <p><b>注意：</b>所有调用方拿到的是同一个响应对象，调用方不应修改它</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public class SingleFlight {
+
+    /**
+     * 无参数调用使用的key
+     */
+    private static final Object NO_PARAM = new Object();
+
+    private final RemoteCallPolicy.SingleFlightSettings settings;
+    private final Map<Object, Flight> flights = new ConcurrentHashMap<>();
+    private final LongAdder sharedCount = new LongAdder();
+
+    public SingleFlight(RemoteCallPolicy.SingleFlightSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * 执行或加入一次调用
+     *
+     * @param request 请求参数，作为合并的key
+     * @param loader  真正执行调用的函数
+     * @param <R>     响应类型
+     * @return 响应结果
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R execute(Object request, Supplier<R> loader) {
+        Object key = request != null ? request : NO_PARAM;
+        while (true) {
+            Flight flight = flights.get(key);
+            if (flight != null) {
+                if (!flight.isExpired()) {
+                    sharedCount.increment();
+                    return (R) flight.await();
+                }
+                flights.remove(key, flight);
+                continue;
+            }
+            Flight mine = new Flight();
+            if (flights.putIfAbsent(key, mine) != null) {
+                continue;
+            }
+            return (R) lead(key, mine, loader);
+        }
+    }
+
+    private Object lead(Object key, Flight flight, Supplier<?> loader) {
+        Object result;
+        try {
+            result = loader.get();
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.future.completeExceptionally(e);
+            throw e;
+        }
+        long ttlMillis = settings.getResultTtlMillis();
+        if (ttlMillis > 0) {
+            flight.expiresAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+            CompletableFuture.delayedExecutor(ttlMillis, TimeUnit.MILLISECONDS)
+                    .execute(() -> flights.remove(key, flight));
+        } else {
+            flights.remove(key, flight);
+        }
+        flight.future.complete(result);
+        return result;
+    }
+
+    /**
+     * 共享了其他调用结果的次数
+     */
+    public long getSharedCount() {
+        return sharedCount.sum();
+    }
+
+    /**
+     * 当前在途或缓存中的调用数
+     */
+    public int size() {
+        return flights.size();
+    }
+
+    /**
+     * 一次在途或已缓存的调用
+     */
+    private static final class Flight {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        /**
+         * 结果过期时间，0表示仍在途
+         */
+        private volatile long expiresAtNanos;
+
+        private boolean isExpired() {
+            long expiresAt = expiresAtNanos;
+            return expiresAt != 0L && System.nanoTime() - expiresAt >= 0;
+        }
+
+        /**
+         * 等待领头调用的结果；存在请求级截止时间时最多等到截止时间
+         */
+        private Object await() {
+            Deadline deadline = DeadlineContext.current();
+            try {
+                return deadline != null ? future.get(deadline.remainingNanos(), TimeUnit.NANOSECONDS) : future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SystemException("远程调用被中断", RemoteErrorCode.REMOTE_CALL_FAILED);
+            } catch (TimeoutException e) {
+                throw new SystemException("请求已超过截止时间，放弃等待合并调用", RemoteErrorCode.REMOTE_CALL_TIMEOUT);
+            } catch (ExecutionException e) {
+                Throwable cause = Objects.requireNonNullElse(e.getCause(), e);
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new SystemException("远程调用失败: " + cause.getMessage(), cause, RemoteErrorCode.REMOTE_CALL_FAILED);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.anjing.util.remote;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 🪟 无锁滑动窗口计数器
+ *
+ * <p>把时间窗口切分为若干个桶，每个桶持有一组{@link LongAdder}计数槽，
+ * 过期的桶在写入时通过CAS原地替换，读写均不加锁</p>
+ *
+ * <h3>📋 使用示例：</h3>
+ * <pre>
+ * // 10秒窗口，10个桶，2个计数槽（成功、失败）
+ * SlidingWindowCounter window = new SlidingWindowCounter(10, 1000, 2);
+ * window.increment(0);
+ * long failures = window.sum(1);
+ * </pre>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public class SlidingWindowCounter {
+
+    private final int bucketCount;
+    private final long bucketNanos;
+    private final int slots;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    /**
+     * @param bucketCount  桶数量
+     * @param bucketMillis 单个桶的时间跨度（毫秒）
+     * @param slots        每个桶的计数槽数量
+     */
+    public SlidingWindowCounter(int bucketCount, long bucketMillis, int slots) {
+        if (bucketCount <= 0 || bucketMillis <= 0 || slots <= 0) {
+            throw new IllegalArgumentException("滑动窗口参数必须大于0");
+        }
+        this.bucketCount = bucketCount;
+        this.bucketNanos = TimeUnit.MILLISECONDS.toNanos(bucketMillis);
+        this.slots = slots;
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    /**
+     * 指定计数槽加一
+     */
+    public void increment(int slot) {
+        add(slot, 1L);
+    }
+
+    /**
+     * 指定计数槽累加
+     */
+    public void add(int slot, long delta) {
+        currentBucket(System.nanoTime()).counters[slot].add(delta);
+    }
+
+    /**
+     * 汇总窗口内指定计数槽的值
+     */
+    public long sum(int slot) {
+        long nowEpoch = Math.floorDiv(System.nanoTime(), bucketNanos);
+        long total = 0L;
+        for (int i = 0; i < bucketCount; i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && nowEpoch - bucket.epoch < bucketCount) {
+                total += bucket.counters[slot].sum();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 清空窗口
+     */
+    public void reset() {
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.set(i, null);
+        }
+    }
+
+    private Bucket currentBucket(long now) {
+        long epoch = Math.floorDiv(now, bucketNanos);
+        int index = (int) Math.floorMod(epoch, (long) bucketCount);
+        while (true) {
+            Bucket bucket = buckets.get(index);
+            if (bucket != null && bucket.epoch >= epoch) {
+                return bucket;
+            }
+            Bucket fresh = new Bucket(epoch, slots);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    /**
+     * 时间桶
+     */
+    private static final class Bucket {
+        private final long epoch;
+        private final LongAdder[] counters;
+
+        private Bucket(long epoch, int slots) {
+            this.epoch = epoch;
+            this.counters = new LongAdder[slots];
+            for (int i = 0; i < slots; i++) {
+                counters[i] = new LongAdder();
+            }
+        }
+    }
+}
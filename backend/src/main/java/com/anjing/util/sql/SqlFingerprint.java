@@ -0,0 +1,233 @@
+package com.anjing.util.sql;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🧬 SQL指纹
+ *
+ * <p>把SQL归一化为"指纹"：去掉注释、合并空白、转为小写，字符串和数字字面量替换为{@code ?}，
+ * {@code IN (?, ?, ?)}和多行{@code VALUES (?, ?), (?, ?)}折叠为一项。
+ * 只有参数不同的语句得到同一个指纹，可以按指纹统计次数与耗时</p>
+ *
+ * <h3>📋 示例：</h3>
+ * <pre>
+ * SELECT * FROM t_user WHERE id IN (1, 2, 3) AND name = 'tom'
+ *   → select * from t_user where id in (?+) and name = ?
+ * </pre>
+ *
+ * <p>同一条SQL文本会反复执行，归一化结果按原文缓存（有上限，满了之后不再缓存，只重新计算）</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public final class SqlFingerprint {
+
+    /**
+     * 缓存的SQL原文数量上限
+     */
+    private static final int MAX_CACHED = 4096;
+
+    /**
+     * 参与归一化的SQL最大长度，超出部分截断（超长SQL一般是拼接的批量语句）
+     */
+    private static final int MAX_SQL_LENGTH = 4096;
+
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private SqlFingerprint() {
+        // 工具类，禁止实例化
+    }
+
+    /**
+     * 获取SQL指纹
+     *
+     * @param sql SQL原文
+     * @return 指纹，sql为空时返回空字符串
+     */
+    public static String of(String sql) {
+        if (sql == null || sql.isEmpty()) {
+            return "";
+        }
+        String fingerprint = CACHE.get(sql);
+        if (fingerprint != null) {
+            return fingerprint;
+        }
+        fingerprint = normalize(sql);
+        if (CACHE.size() < MAX_CACHED) {
+            CACHE.put(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * 归一化SQL（不使用缓存）
+     */
+    public static String normalize(String sql) {
+        int length = Math.min(sql.length(), MAX_SQL_LENGTH);
+        StringBuilder sb = new StringBuilder(length);
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                appendSpace(sb);
+                i++;
+            } else if (c == '\'') {
+                i = skipString(sql, i, length);
+                sb.append('?');
+            } else if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                i = skipTo(sql, i + 2, length, "\n");
+                appendSpace(sb);
+            } else if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                i = skipTo(sql, i + 2, length, "*/");
+                appendSpace(sb);
+            } else if (isDigit(c) && !endsWithIdentifier(sb)) {
+                i = skipNumber(sql, i, length);
+                sb.append('?');
+            } else if (c == ',' || c == ')') {
+                trimTrailingSpace(sb);
+                sb.append(c);
+                if (c == ',') {
+                    sb.append(' ');
+                }
+                i++;
+            } else {
+                sb.append(Character.toLowerCase(c));
+                i++;
+            }
+        }
+        trimTrailingSpace(sb);
+        return collapseLists(sb.toString());
+    }
+
+    /**
+     * 折叠占位符列表：{@code (?, ?, ?)} → {@code (?+)}，{@code (?+), (?+)} → {@code (?+)}
+     */
+    private static String collapseLists(String sql) {
+        if (sql.indexOf("(?") < 0) {
+            return sql;
+        }
+        StringBuilder sb = new StringBuilder(sql.length());
+        int i = 0;
+        int length = sql.length();
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '(') {
+                int end = placeholderListEnd(sql, i);
+                if (end > 0) {
+                    // 连续的占位符元组只保留一个（多行VALUES）
+                    if (!endsWith(sb, "(?+), ") && !endsWith(sb, "(?+)")) {
+                        sb.append("(?+)");
+                    } else if (endsWith(sb, ", ")) {
+                        sb.setLength(sb.length() - 2);
+                    }
+                    i = end + 1;
+                    continue;
+                }
+            }
+            sb.append(c);
+            i++;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 从{@code start}处的左括号开始，若括号内只有逗号分隔的占位符，返回右括号位置，否则返回-1
+     */
+    private static int placeholderListEnd(String sql, int start) {
+        int i = start + 1;
+        boolean expectPlaceholder = true;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (c == ' ') {
+                i++;
+            } else if (expectPlaceholder && c == '?') {
+                expectPlaceholder = false;
+                i++;
+            } else if (!expectPlaceholder && c == ',') {
+                expectPlaceholder = true;
+                i++;
+            } else if (!expectPlaceholder && c == ')') {
+                return i;
+            } else {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipString(String sql, int start, int length) {
+        char quote = sql.charAt(start);
+        int i = start + 1;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == quote) {
+                if (i + 1 < length && sql.charAt(i + 1) == quote) {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return length;
+    }
+
+    private static int skipTo(String sql, int start, int length, String terminator) {
+        int end = sql.indexOf(terminator, start);
+        return end < 0 || end >= length ? length : end + terminator.length();
+    }
+
+    private static int skipNumber(String sql, int start, int length) {
+        int i = start;
+        boolean hex = i + 1 < length && sql.charAt(i) == '0' && (sql.charAt(i + 1) == 'x' || sql.charAt(i + 1) == 'X');
+        if (hex) {
+            i += 2;
+        }
+        while (i < length) {
+            char c = sql.charAt(i);
+            boolean hexDigit = (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+            if (isDigit(c) || c == '.' || (hex && hexDigit)) {
+                i++;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * 前一个字符是否属于标识符（如{@code t1}、{@code col_2}中的数字不是字面量）
+     */
+    private static boolean endsWithIdentifier(StringBuilder sb) {
+        if (sb.length() == 0) {
+            return false;
+        }
+        char c = sb.charAt(sb.length() - 1);
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '`' || c == '.';
+    }
+
+    private static void appendSpace(StringBuilder sb) {
+        if (sb.length() > 0 && sb.charAt(sb.length() - 1) != ' ' && sb.charAt(sb.length() - 1) != '(') {
+            sb.append(' ');
+        }
+    }
+
+    private static void trimTrailingSpace(StringBuilder sb) {
+        while (sb.length() > 0 && sb.charAt(sb.length() - 1) == ' ') {
+            sb.setLength(sb.length() - 1);
+        }
+    }
+
+    private static boolean endsWith(StringBuilder sb, String suffix) {
+        int offset = sb.length() - suffix.length();
+        return offset >= 0 && sb.indexOf(suffix, offset) == offset;
+    }
+}
@@ -0,0 +1,131 @@
+package com.anjing.util.sql;
+
+import com.anjing.util.trace.TraceContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🔬 SQL执行画像
+ *
+ * <p>由数据源上的{@code SqlProfilerFilter}在每条语句执行完成后调用，按{@link SqlFingerprint SQL指纹}
+ * 汇总执行次数、绑定参数个数和耗时分布，慢SQL输出一行带请求ID的告警日志。
+ * 汇总结果通过{@code /actuator/sqlstats}查看最慢和最频繁的语句；
+ * 同时计入当前线程的{@link SqlQueryRecorder}，用于发现同一请求内重复执行的语句</p>
+ *
+ * <p>指纹数量有上限（{@code app.sql-profiler.max-fingerprints}），
+ * 超出后新指纹计入{@value #OVERFLOW_FINGERPRINT}，避免拼接SQL导致统计无限增长</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@Slf4j
+public final class SqlProfiler {
+
+    /**
+     * 超出指纹数量上限后使用的汇总指纹
+     */
+    public static final String OVERFLOW_FINGERPRINT = "<other>";
+
+    /**
+     * 慢SQL日志中SQL的最大长度
+     */
+    private static final int MAX_LOGGED_SQL_LENGTH = 1000;
+
+    private static final Map<String, SqlStatementStats> STATS = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled = true;
+
+    private static volatile long slowSqlNanos = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private static volatile int maxFingerprints = 2000;
+
+    private SqlProfiler() {
+        // 工具类，禁止实例化
+    }
+
+    /**
+     * 更新配置
+     *
+     * @param enabled         是否统计
+     * @param slowSqlMillis   慢SQL阈值（毫秒），小于等于0表示不输出慢SQL日志
+     * @param maxFingerprints 指纹数量上限
+     */
+    public static void configure(boolean enabled, long slowSqlMillis, int maxFingerprints) {
+        SqlProfiler.enabled = enabled;
+        SqlProfiler.slowSqlNanos = slowSqlMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(slowSqlMillis) : Long.MAX_VALUE;
+        SqlProfiler.maxFingerprints = Math.max(1, maxFingerprints);
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 记录一次语句执行
+     *
+     * @param sql          SQL原文
+     * @param bindCount    绑定参数个数（批量执行时为各批次之和）
+     * @param elapsedNanos 耗时（纳秒）
+     * @param success      是否执行成功
+     */
+    public static void record(String sql, int bindCount, long elapsedNanos, boolean success) {
+        if (!enabled || sql == null) {
+            return;
+        }
+        String fingerprint = SqlFingerprint.of(sql);
+        statsOf(fingerprint).record(bindCount, elapsedNanos, success, TraceContext.current());
+        SqlQueryRecorder.onExecution(fingerprint);
+
+        if (elapsedNanos >= slowSqlNanos) {
+            log.warn("🐢 [SQL] 慢SQL | 耗时: {}ms | 绑定参数: {} | 结果: {} | SQL: {}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), bindCount, success ? "成功" : "失败", abbreviate(sql));
+        }
+    }
+
+    /**
+     * 全部指纹的统计
+     */
+    public static List<SqlStatementStats> statements() {
+        return new ArrayList<>(STATS.values());
+    }
+
+    /**
+     * 指定指纹的统计，不存在时返回null
+     */
+    public static SqlStatementStats statement(String fingerprint) {
+        return STATS.get(fingerprint);
+    }
+
+    /**
+     * 指纹数量
+     */
+    public static int size() {
+        return STATS.size();
+    }
+
+    /**
+     * 清空统计
+     */
+    public static void reset() {
+        STATS.clear();
+    }
+
+    private static SqlStatementStats statsOf(String fingerprint) {
+        SqlStatementStats stats = STATS.get(fingerprint);
+        if (stats != null) {
+            return stats;
+        }
+        String key = STATS.size() < maxFingerprints ? fingerprint : OVERFLOW_FINGERPRINT;
+        return STATS.computeIfAbsent(key, SqlStatementStats::new);
+    }
+
+    private static String abbreviate(String sql) {
+        String flat = sql.replaceAll("\\s+", " ").trim();
+        return flat.length() > MAX_LOGGED_SQL_LENGTH ? flat.substring(0, MAX_LOGGED_SQL_LENGTH) + "..." : flat;
+    }
+}
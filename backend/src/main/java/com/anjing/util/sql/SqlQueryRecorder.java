@@ -0,0 +1,212 @@
+package com.anjing.util.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🔁 作用域内SQL执行计数（N+1检测）
+ *
+ * <p>在一个作用域（一个HTTP请求或一段测试代码）内按{@link SqlFingerprint SQL指纹}统计执行次数，
+ * 同一指纹执行次数达到阈值即视为疑似N+1查询。HTTP请求由{@code SqlQueryRecorderFilter}自动开启记录，
+ * 请求结束后输出告警日志并计入指标；测试中可以直接使用断言API</p>
+ *
+ * <h3>📋 测试中使用：</h3>
+ * <pre>
+ * try (SqlQueryRecorder.Recording recording = SqlQueryRecorder.start()) {
+ *     orderService.listOrders(userId);
+ *     recording.assertNoRepeatedQueries();               // 任一指纹次数不超过阈值
+ *     recording.assertMaxQueries(3);                     // 总次数不超过3
+ *     recording.assertMaxExecutions("select * from t_order_item where order_id=?", 1);
+ * }
+ * </pre>
+ *
+ * <p>只统计开启记录的线程上执行的SQL，切换到线程池中执行的SQL不计入；作用域可以嵌套，
+ * 内层执行的SQL同时计入外层</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public final class SqlQueryRecorder {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private static volatile int defaultThreshold = 20;
+
+    private SqlQueryRecorder() {
+        // 工具类，禁止实例化
+    }
+
+    /**
+     * 设置默认阈值
+     *
+     * @param threshold 同一指纹在一个作用域内的执行次数阈值，小于等于0表示不检测
+     */
+    public static void configure(int threshold) {
+        defaultThreshold = threshold;
+    }
+
+    public static int getDefaultThreshold() {
+        return defaultThreshold;
+    }
+
+    /**
+     * 在当前线程开启记录，使用默认阈值
+     */
+    public static Recording start() {
+        return start(defaultThreshold);
+    }
+
+    /**
+     * 在当前线程开启记录
+     *
+     * @param threshold 同一指纹的执行次数阈值
+     */
+    public static Recording start(int threshold) {
+        Recording recording = new Recording(CURRENT.get(), threshold);
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    /**
+     * 当前线程的记录，未开启时返回null
+     */
+    public static Recording current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 由{@link SqlProfiler}在每条语句执行后调用
+     */
+    static void onExecution(String fingerprint) {
+        for (Recording recording = CURRENT.get(); recording != null; recording = recording.parent) {
+            recording.increment(fingerprint);
+        }
+    }
+
+    /**
+     * 一个作用域内的执行计数，只在开启它的线程上使用
+     */
+    public static final class Recording implements AutoCloseable {
+
+        private final Recording parent;
+        private final int threshold;
+        private final Map<String, int[]> counts = new LinkedHashMap<>();
+        private int total;
+        private boolean closed;
+
+        private Recording(Recording parent, int threshold) {
+            this.parent = parent;
+            this.threshold = threshold;
+        }
+
+        private void increment(String fingerprint) {
+            if (closed) {
+                return;
+            }
+            total++;
+            counts.computeIfAbsent(fingerprint, key -> new int[1])[0]++;
+        }
+
+        /**
+         * 作用域内执行的SQL总数
+         */
+        public int getTotal() {
+            return total;
+        }
+
+        /**
+         * 指定指纹的执行次数
+         *
+         * @param sqlOrFingerprint SQL原文或指纹
+         */
+        public int count(String sqlOrFingerprint) {
+            int[] count = counts.get(SqlFingerprint.of(sqlOrFingerprint));
+            return count != null ? count[0] : 0;
+        }
+
+        /**
+         * 每个指纹的执行次数（按首次执行的顺序）
+         */
+        public Map<String, Integer> counts() {
+            Map<String, Integer> result = new LinkedHashMap<>();
+            counts.forEach((fingerprint, count) -> result.put(fingerprint, count[0]));
+            return result;
+        }
+
+        /**
+         * 执行次数达到阈值的指纹，阈值小于等于0时返回空
+         */
+        public Map<String, Integer> repeatedQueries() {
+            if (threshold <= 0) {
+                return Collections.emptyMap();
+            }
+            Map<String, Integer> result = new LinkedHashMap<>();
+            counts.forEach((fingerprint, count) -> {
+                if (count[0] >= threshold) {
+                    result.put(fingerprint, count[0]);
+                }
+            });
+            return result;
+        }
+
+        public int getThreshold() {
+            return threshold;
+        }
+
+        /**
+         * 断言没有指纹的执行次数达到阈值
+         *
+         * @throws AssertionError 存在疑似N+1查询时
+         */
+        public void assertNoRepeatedQueries() {
+            Map<String, Integer> repeated = repeatedQueries();
+            if (!repeated.isEmpty()) {
+                List<String> lines = new ArrayList<>();
+                repeated.forEach((fingerprint, count) -> lines.add(count + "次: " + fingerprint));
+                throw new AssertionError("疑似N+1查询（阈值" + threshold + "）: " + String.join("; ", lines));
+            }
+        }
+
+        /**
+         * 断言SQL总数不超过上限
+         */
+        public void assertMaxQueries(int max) {
+            if (total > max) {
+                throw new AssertionError("SQL执行" + total + "次，超过上限" + max + ": " + counts());
+            }
+        }
+
+        /**
+         * 断言指定SQL的执行次数不超过上限
+         *
+         * @param sqlOrFingerprint SQL原文或指纹
+         */
+        public void assertMaxExecutions(String sqlOrFingerprint, int max) {
+            int count = count(sqlOrFingerprint);
+            if (count > max) {
+                throw new AssertionError("SQL执行" + count + "次，超过上限" + max + ": " + SqlFingerprint.of(sqlOrFingerprint));
+            }
+        }
+
+        /**
+         * 结束记录，恢复外层作用域；计数仍可读取
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (CURRENT.get() == this) {
+                if (parent != null) {
+                    CURRENT.set(parent);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.anjing.util.sql;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 📊 单个SQL指纹的执行统计
+ *
+ * <p>累计执行次数、失败次数、绑定参数个数、总耗时和最大耗时，并记录最大耗时发生在哪个请求；
+ * 耗时按对数-线性分桶（微秒，每个2的幂区间再分4档，相对误差约25%）统计，用于计算分位数。
+ * 记录无锁，统计从应用启动或上次{@link SqlProfiler#reset()}开始累计</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public class SqlStatementStats {
+
+    private static final int SUB_BITS = 2;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+
+    /**
+     * 最大可区分的耗时：2^30微秒（约18分钟），更大的值计入最后一个桶
+     */
+    private static final int MAX_EXPONENT = 30;
+    private static final int SLOT_COUNT = SUB_COUNT + (MAX_EXPONENT - SUB_BITS + 1) * SUB_COUNT;
+
+    private final String fingerprint;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder bindCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray histogram = new AtomicLongArray(SLOT_COUNT);
+
+    /**
+     * 最大耗时那次执行所属的请求ID
+     */
+    private volatile String slowestRequestId;
+
+    public SqlStatementStats(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * 记录一次执行
+     *
+     * @param bindCount    绑定参数个数
+     * @param elapsedNanos 耗时（纳秒）
+     * @param success      是否执行成功
+     * @param requestId    当前请求ID，可以为null
+     */
+    public void record(int bindCount, long elapsedNanos, boolean success, String requestId) {
+        long nanos = Math.max(0L, elapsedNanos);
+        count.increment();
+        if (!success) {
+            errorCount.increment();
+        }
+        this.bindCount.add(bindCount);
+        totalNanos.add(nanos);
+        histogram.incrementAndGet(slotOf(TimeUnit.NANOSECONDS.toMicros(nanos)));
+
+        long max = maxNanos.get();
+        while (nanos > max) {
+            if (maxNanos.compareAndSet(max, nanos)) {
+                slowestRequestId = requestId;
+                break;
+            }
+            max = maxNanos.get();
+        }
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    public long getBindCount() {
+        return bindCount.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public String getSlowestRequestId() {
+        return slowestRequestId;
+    }
+
+    /**
+     * 指定分位的耗时上界
+     *
+     * @param percentile 分位（0-100）
+     * @return 耗时（微秒），没有样本时返回-1
+     */
+    public long percentileMicros(double percentile) {
+        long[] counts = new long[SLOT_COUNT];
+        long total = 0L;
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            counts[slot] = histogram.get(slot);
+            total += counts[slot];
+        }
+        if (total == 0L) {
+            return -1L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(total * Math.min(100.0, Math.max(0.0, percentile)) / 100.0));
+        long seen = 0L;
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            seen += counts[slot];
+            if (seen >= rank) {
+                return upperBoundOf(slot);
+            }
+        }
+        return upperBoundOf(SLOT_COUNT - 1);
+    }
+
+    /**
+     * 耗时（微秒）对应的桶：小于4微秒精确计数，之后每个2的幂区间分4档
+     */
+    static int slotOf(long micros) {
+        if (micros < SUB_COUNT) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return SLOT_COUNT - 1;
+        }
+        int sub = (int) (micros >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+        return SUB_COUNT + (exponent - SUB_BITS) * SUB_COUNT + sub;
+    }
+
+    /**
+     * 桶的耗时上界（微秒）
+     */
+    static long upperBoundOf(int slot) {
+        if (slot < SUB_COUNT) {
+            return slot;
+        }
+        int exponent = (slot - SUB_COUNT) / SUB_COUNT + SUB_BITS;
+        int sub = (slot - SUB_COUNT) % SUB_COUNT;
+        long width = 1L << (exponent - SUB_BITS);
+        return (1L << exponent) + (sub + 1) * width - 1;
+    }
+}
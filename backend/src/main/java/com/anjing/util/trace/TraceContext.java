@@ -0,0 +1,192 @@
+package com.anjing.util.trace;
+
+import com.anjing.model.request.BaseRequest;
+import com.anjing.util.random.TokenRandom;
+import org.slf4j.MDC;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * 🧵 请求ID上下文
+ *
+ * <p>请求ID在{@code RequestIdFilter}中为每个HTTP请求生成一次（或沿用上游传入的{@code X-Request-Id}），
+ * 保存在MDC的{@code requestId}中，日志格式里的{@code %X{requestId}}会自动带上它，
+ * Controller、Facade、SQL、远程调用等各处日志不需要各自传递就能按请求ID串起来</p>
+ *
+ * <h3>📋 使用示例：</h3>
+ * <pre>
+ * // 切换线程（线程池、虚拟线程）时携带请求ID；@Async由AsyncConfig注册的TaskDecorator自动携带
+ * executor.execute(TraceContext.wrap(task));
+ * Executor traced = TraceContext.wrap(executor);
+ *
+ * // 调用下游时透传请求ID
+ * httpHeaders.set(TraceContext.HEADER, TraceContext.current());
+ * </pre>
+ *
+ * <p>请求ID为128位随机数的base32编码（26个字符，Crockford字母表，小写），
+ * 随机数取自{@link TokenRandom}（每线程一个DRBG并缓存字节），128位都是独立的随机位；
+ * 不依赖时间戳和线程号，高并发下不会重复</p>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+public final class TraceContext {
+
+    /**
+     * MDC中的key
+     */
+    public static final String MDC_KEY = "requestId";
+
+    /**
+     * 上下游之间传递请求ID的请求头
+     */
+    public static final String HEADER = "X-Request-Id";
+
+    /**
+     * 接受上游传入请求ID的最大长度
+     */
+    private static final int MAX_INBOUND_LENGTH = 64;
+
+    private static final char[] BASE32 = "0123456789abcdefghjkmnpqrstvwxyz".toCharArray();
+
+    private TraceContext() {
+        // 工具类，禁止实例化
+    }
+
+    /**
+     * 生成新的请求ID：128位随机数，base32编码为26个字符
+     */
+    public static String newId() {
+        // ThreadLocalRandom只有64位状态，连续两次nextLong的第二个值由第一个决定，不足128位
+        long high = TokenRandom.nextLong();
+        long low = TokenRandom.nextLong();
+        char[] chars = new char[26];
+        // low的低60位编码为后12个字符
+        for (int i = 25; i >= 14; i--) {
+            chars[i] = BASE32[(int) (low & 31)];
+            low >>>= 5;
+        }
+        // low剩余的4位与high的最低位拼成一个字符
+        chars[13] = BASE32[(int) ((low & 15) | ((high & 1) << 4))];
+        high >>>= 1;
+        // high剩余的63位编码为前13个字符
+        for (int i = 12; i >= 0; i--) {
+            chars[i] = BASE32[(int) (high & 31)];
+            high >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 上游传入的请求ID是否可以沿用：非空、不超过64个字符、只包含字母数字和-_.
+     */
+    public static boolean isValidInbound(String requestId) {
+        if (requestId == null || requestId.isEmpty() || requestId.length() > MAX_INBOUND_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < requestId.length(); i++) {
+            char c = requestId.charAt(i);
+            boolean valid = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')
+                    || c == '-' || c == '_' || c == '.';
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 当前线程的请求ID，未设置时返回null
+     */
+    public static String current() {
+        return MDC.get(MDC_KEY);
+    }
+
+    /**
+     * 设置请求ID
+     *
+     * @return 之前的请求ID，用于{@link #restore(String)}
+     */
+    public static String set(String requestId) {
+        String previous = MDC.get(MDC_KEY);
+        MDC.put(MDC_KEY, requestId);
+        return previous;
+    }
+
+    /**
+     * 恢复之前的请求ID（为null时清除）
+     */
+    public static void restore(String previous) {
+        if (previous == null) {
+            MDC.remove(MDC_KEY);
+        } else {
+            MDC.put(MDC_KEY, previous);
+        }
+    }
+
+    /**
+     * 把当前请求ID写入下游请求对象（请求对象已有请求ID时不覆盖）
+     *
+     * @param request 下游请求参数，不是{@link BaseRequest}时忽略
+     */
+    public static void attach(Object request) {
+        if (request instanceof BaseRequest) {
+            BaseRequest baseRequest = (BaseRequest) request;
+            if (baseRequest.getRequestId() == null) {
+                baseRequest.setRequestId(current());
+            }
+        }
+    }
+
+    /**
+     * 让任务在其他线程中沿用当前线程的请求ID
+     */
+    public static Runnable wrap(Runnable task) {
+        return wrap(current(), task);
+    }
+
+    /**
+     * 让任务在执行线程中使用指定的请求ID
+     *
+     * @param requestId 请求ID，为null时原样返回任务
+     */
+    public static Runnable wrap(String requestId, Runnable task) {
+        if (requestId == null) {
+            return task;
+        }
+        return () -> {
+            String previous = set(requestId);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * 让有返回值的任务在其他线程中沿用当前线程的请求ID
+     */
+    public static <V> Callable<V> wrap(Callable<V> task) {
+        String requestId = current();
+        if (requestId == null) {
+            return task;
+        }
+        return () -> {
+            String previous = set(requestId);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * 包装线程池：提交的任务自动沿用提交线程的请求ID
+     */
+    public static Executor wrap(Executor executor) {
+        return task -> executor.execute(wrap(task));
+    }
+}
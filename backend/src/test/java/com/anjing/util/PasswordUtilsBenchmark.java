@@ -0,0 +1,93 @@
+package com.anjing.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🔐 密码加密基准测试：PBKDF2迭代次数与单次耗时、吞吐量的关系
+ *
+ * <p>用于选择{@code app.password.target-millis}、{@code min-iterations}和{@code verify-threads}：
+ * 单线程的平均耗时即单次登录增加的延迟，多线程吞吐量即校验线程池每秒最多能处理的登录次数</p>
+ *
+ * <h3>📋 运行方式：</h3>
+ * <pre>
+ * mvn -B test-compile
+ * mvn -B exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.anjing.util.PasswordUtilsBenchmark
+ * # 或在IDE中直接运行main方法
+ * </pre>
+ *
+ * @author Backend Template Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class PasswordUtilsBenchmark {
+
+    private static final String PASSWORD = "Benchmark#Passw0rd";
+
+    /**
+     * PBKDF2迭代次数
+     */
+    @Param({"100000", "310000", "600000", "1000000"})
+    private int iterations;
+
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        PasswordUtils.configure(iterations, null);
+        encoded = PasswordUtils.encode(PASSWORD);
+    }
+
+    /**
+     * 注册、改密：生成盐值并加密
+     */
+    @Benchmark
+    public String encode() {
+        return PasswordUtils.encode(PASSWORD);
+    }
+
+    /**
+     * 登录：单线程校验，即单次登录增加的延迟
+     */
+    @Benchmark
+    public boolean verify() {
+        return PasswordUtils.matches(PASSWORD, encoded);
+    }
+
+    /**
+     * 登录高峰：4个线程并发校验，对应verify-threads=4时的吞吐上限
+     */
+    @Benchmark
+    @Threads(4)
+    public boolean verifyConcurrent() {
+        return PasswordUtils.matches(PASSWORD, encoded);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(PasswordUtilsBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}